@@ -0,0 +1,264 @@
+package com.ceng453.frontend.bench;
+
+import com.ceng453.frontend.UnoApplication;
+import com.ceng453.frontend.controller.GameBoardProbe;
+import com.ceng453.frontend.ui.AssetPreloader;
+import com.ceng453.frontend.ui.CardImageCache;
+import com.ceng453.frontend.ui.SceneLifecycle;
+import com.ceng453.frontend.ui.SceneManager;
+import com.ceng453.frontend.ui.SoundEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+// Headless UI benchmark, run with "mvn -Pui-bench verify" (see the ui-bench profile in pom.xml).
+// Boots Spring without a web server and JavaFX on the Monocle headless platform, then measures
+// on the FX thread:
+//  - load time of every FXML scene SceneManager knows about (view build + CSS + first layout)
+//  - updateGameUI() latency at human hand sizes from 7 to 60, with and without the layout pass
+//  - bytes allocated per rendered turn at the same hand sizes
+// and writes the results as JSON (first argument, default target/ui-bench/ui-bench.json).
+public class UiBenchmark {
+    private static final String DEFAULT_OUTPUT = "target/ui-bench/ui-bench.json";
+    private static final int SCENE_LOADS = 20;
+    private static final int[] HAND_SIZES = {7, 10, 15, 20, 30, 40, 50, 60};
+    private static final int WARMUP_RENDERS = 20;
+    private static final int MEASURED_RENDERS = 100;
+    private static final double SCENE_WIDTH = 1024;
+    private static final double SCENE_HEIGHT = 768;
+
+    public static void main(String[] args) throws Exception {
+        // Monocle's headless platform with the software pipeline; no display or GPU needed
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+        File output = new File(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+
+        CompletableFuture<Void> toolkitStarted = new CompletableFuture<>();
+        Platform.startup(() -> toolkitStarted.complete(null));
+        toolkitStarted.join();
+        Platform.setImplicitExit(false);
+
+        CardImageCache imageCache = new CardImageCache();
+        CardImageCache.allImagePaths().forEach(imageCache::load);
+        // No clips are loaded: there is no audio device, and the board only asks for sounds
+        SoundEngine soundEngine = new SoundEngine();
+        soundEngine.setMuted(true);
+
+        // Nothing may reach the backend or the developer's own queue of unsent game results:
+        // no connection warm-up, and an outbox of its own that starts out empty
+        Path outboxDirectory = Files.createTempDirectory("ui-bench-outbox");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(UnoApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(applicationContext -> {
+                    applicationContext.getBeanFactory().registerSingleton("cardImageCache", imageCache);
+                    applicationContext.getBeanFactory().registerSingleton("soundEngine", soundEngine);
+                })
+                .run(Stream.concat(Arrays.stream(args), Stream.of("--api.connection-warmup.enabled=false",
+                        "--outbox.directory=" + outboxDirectory)).toArray(String[]::new));
+        try {
+            SceneManager sceneManager = context.getBean(SceneManager.class);
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("timestamp", Instant.now().toString());
+            results.put("javaVersion", System.getProperty("java.version"));
+            results.put("javafxVersion", System.getProperty("javafx.runtime.version"));
+            results.put("glassPlatform", System.getProperty("glass.platform"));
+            results.put("compiledViews", context.getEnvironment().getProperty("ui.compiled-views.enabled", "true"));
+            results.put("sceneLoads", benchmarkSceneLoads(sceneManager));
+            results.put("gameBoard", benchmarkGameBoard(sceneManager));
+
+            output.getAbsoluteFile().getParentFile().mkdirs();
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, results);
+            System.out.println("UI benchmark results written to " + output.getAbsolutePath());
+        } finally {
+            context.close();
+            Platform.exit();
+            try (Stream<Path> files = Files.walk(outboxDirectory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    private static List<Map<String, Object>> benchmarkSceneLoads(SceneManager sceneManager) {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String fxmlPath : sceneFxmlPaths()) {
+            if (UiBenchmark.class.getResource(fxmlPath) == null) {
+                // Declared in SceneManager but not part of this build (e.g. the multiplayer views)
+                continue;
+            }
+            long[] samples = new long[SCENE_LOADS + 1];
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = onFxThread(() -> {
+                    long start = System.nanoTime();
+                    SceneManager.LoadedView view = sceneManager.loadView(fxmlPath);
+                    if (view == null) {
+                        throw new IllegalStateException("Could not load " + fxmlPath);
+                    }
+                    layOut(view.root());
+                    long elapsed = System.nanoTime() - start;
+                    if (view.controller() instanceof SceneLifecycle lifecycle) {
+                        lifecycle.dispose();
+                    }
+                    return elapsed;
+                });
+            }
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("fxml", fxmlPath);
+            result.put("coldMillis", samples[0] / 1_000_000.0);
+            result.putAll(summarize(Arrays.copyOfRange(samples, 1, samples.length)));
+            results.add(result);
+            System.out.println("Scene " + fxmlPath + ": " + result);
+        }
+        return results;
+    }
+
+    private static List<Map<String, Object>> benchmarkGameBoard(SceneManager sceneManager) {
+        SceneManager.LoadedView view = onFxThread(() -> sceneManager.loadView(SceneManager.GAME_BOARD_FXML));
+        GameBoardProbe board = new GameBoardProbe(view.controller());
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        try {
+            onFxThread(() -> {
+                layOut(view.root());
+                if (!board.startHumanTurnGame()) {
+                    throw new IllegalStateException("No deal gave the human the first move");
+                }
+                return null;
+            });
+
+            for (int handSize : HAND_SIZES) {
+                long[] updateSamples = new long[MEASURED_RENDERS];
+                long[] layoutSamples = new long[MEASURED_RENDERS];
+                long[] allocatedBytes = new long[1];
+                int tableCards = onFxThread(() -> {
+                    long fxThread = Thread.currentThread().getId();
+                    for (int i = -WARMUP_RENDERS; i < MEASURED_RENDERS; i++) {
+                        // Alternate between two sizes so every render has a real change to apply
+                        board.setHumanHandSize(i % 2 == 0 ? handSize : handSize - 1);
+                        long allocatedBefore = threads.getThreadAllocatedBytes(fxThread);
+                        long start = System.nanoTime();
+                        board.updateGameUI();
+                        long updated = System.nanoTime();
+                        layOut(view.root());
+                        long laidOut = System.nanoTime();
+                        if (i >= 0) {
+                            updateSamples[i] = updated - start;
+                            layoutSamples[i] = laidOut - start;
+                            allocatedBytes[0] += threads.getThreadAllocatedBytes(fxThread) - allocatedBefore;
+                        }
+                    }
+                    return board.getTableCardCount();
+                });
+
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("handSize", handSize);
+                result.put("tableCards", tableCards);
+                result.put("updateGameUI", summarize(updateSamples));
+                result.put("updateGameUIWithLayout", summarize(layoutSamples));
+                result.put("allocatedBytesPerTurn", allocatedBytes[0] / MEASURED_RENDERS);
+                results.add(result);
+                System.out.println("Hand size " + handSize + ": " + result);
+            }
+        } finally {
+            onFxThread(() -> {
+                board.dispose();
+                return null;
+            });
+        }
+        return results;
+    }
+
+    // Every FXML path constant of SceneManager, so new scenes are picked up without touching this class
+    private static List<String> sceneFxmlPaths() {
+        List<String> paths = new ArrayList<>();
+        for (Field field : SceneManager.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class
+                    && field.getName().endsWith("_FXML")) {
+                try {
+                    paths.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return paths;
+    }
+
+    // What the first pulse does to a new view: attach it to a scene, apply CSS and lay it out
+    private static void layOut(Parent root) {
+        if (root.getScene() == null) {
+            Scene scene = new Scene(root, SCENE_WIDTH, SCENE_HEIGHT);
+            for (String stylesheet : AssetPreloader.STYLESHEETS) {
+                URL url = UiBenchmark.class.getResource(stylesheet);
+                if (url != null) {
+                    scene.getStylesheets().add(url.toExternalForm());
+                }
+            }
+        }
+        root.applyCss();
+        root.layout();
+    }
+
+    private static Map<String, Object> summarize(long[] samplesNanos) {
+        long[] sorted = samplesNanos.clone();
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", sorted.length);
+        summary.put("meanMillis", Arrays.stream(sorted).average().orElse(0) / 1_000_000.0);
+        summary.put("p50Millis", percentile(sorted, 0.50) / 1_000_000.0);
+        summary.put("p95Millis", percentile(sorted, 0.95) / 1_000_000.0);
+        summary.put("maxMillis", sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        return summary;
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    private static <T> T onFxThread(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.join();
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ceng453.frontend.controller;
+
+import com.ceng453.frontend.model.Card;
+import com.ceng453.frontend.model.Game;
+
+import java.util.List;
+
+// Gives the UI benchmark access to the game board's package-private hooks. Lives in the
+// controller package of the benchmark sources only, so the board keeps no public test API.
+public class GameBoardProbe {
+    // Board deals a fresh game until the human moves first, so updateGameUI() starts no CPU turns
+    private static final int MAX_DEALS = 50;
+
+    private final GameBoardController board;
+
+    public GameBoardProbe(Object controller) {
+        this.board = (GameBoardController) controller;
+    }
+
+    // Starts a game in which it is the human's turn; returns false if no deal gave the human the first move
+    public boolean startHumanTurnGame() {
+        for (int i = 0; i < MAX_DEALS; i++) {
+            board.onShow();
+            if (board.getGame().getCurrentPlayer().isHuman()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Grows or shrinks the human hand to exactly size cards, cycling through colors and numbers
+    public void setHumanHandSize(int size) {
+        List<Card> hand = board.getGame().getPlayers().get(0).getHand();
+        while (hand.size() > size) {
+            hand.remove(hand.size() - 1);
+        }
+        Card.Color[] colors = {Card.Color.RED, Card.Color.BLUE, Card.Color.GREEN, Card.Color.YELLOW};
+        while (hand.size() < size) {
+            int n = hand.size();
+            hand.add(new Card(colors[n % colors.length], n / colors.length % 10));
+        }
+    }
+
+    public int getTableCardCount() {
+        Game game = board.getGame();
+        return game.getPlayers().stream().mapToInt(player -> player.getCardCount()).sum();
+    }
+
+    public void updateGameUI() {
+        board.updateGameUI();
+    }
+
+    public void dispose() {
+        board.dispose();
+    }
+}
@@ -0,0 +1,560 @@
+package com.ceng453.frontend.build;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Build-time tool that turns every .fxml file in a directory into a Java class implementing
+// com.ceng453.frontend.ui.CompiledView. It is run from the generate-sources phase with the JDK
+// source launcher (see pom.xml), so it must stay a single self-contained file and may only use
+// the compile classpath (JavaFX), never the project's own classes.
+//
+// Supported FXML subset: <?import?>, instance elements with no-arg or @NamedArg constructors,
+// attribute and element properties, list properties, default properties, static properties,
+// fx:id, fx:controller and "#handler" event attributes. Anything else makes the tool skip the
+// file, and the application falls back to FXMLLoader for it at runtime.
+public class FxmlViewCompiler {
+    private static final String GENERATED_PACKAGE = "com.ceng453.frontend.ui.generated";
+    private static final String FX_NAMESPACE = "http://javafx.com/fxml/1";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 2) {
+            System.err.println("Usage: FxmlViewCompiler <fxml directory> <generated sources directory>");
+            System.exit(2);
+        }
+        Path fxmlDirectory = Path.of(args[0]);
+        Path outputDirectory = Path.of(args[1]).resolve(GENERATED_PACKAGE.replace('.', '/'));
+        Files.createDirectories(outputDirectory);
+        // Start from an empty package: a view whose FXML was deleted, renamed or is now skipped must
+        // not outlive it, or the application would keep building the stale view instead of the FXML
+        try (Stream<Path> stale = Files.list(outputDirectory)) {
+            for (Path file : stale.filter(path -> path.toString().endsWith(".java")).toList()) {
+                Files.delete(file);
+            }
+        }
+
+        List<Path> fxmlFiles;
+        try (Stream<Path> files = Files.list(fxmlDirectory)) {
+            fxmlFiles = files.filter(path -> path.toString().endsWith(".fxml")).sorted().toList();
+        }
+
+        int compiled = 0;
+        for (Path fxmlFile : fxmlFiles) {
+            String fxmlPath = "/" + fxmlDirectory.getFileName() + "/" + fxmlFile.getFileName();
+            String className = classNameFor(fxmlFile.getFileName().toString());
+            try {
+                String source = new ViewWriter(fxmlPath, className).write(parse(fxmlFile));
+                Files.writeString(outputDirectory.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+                compiled++;
+            } catch (Exception e) {
+                // Leave this view to FXMLLoader instead of failing the build
+                System.err.println("[fxml] Skipping " + fxmlPath + ": " + e.getMessage());
+            }
+        }
+        System.out.println("[fxml] Compiled " + compiled + " of " + fxmlFiles.size() + " FXML views into " + outputDirectory);
+    }
+
+    // Must match CompiledView.classNameFor(): "game_board.fxml" -> "GameBoardView"
+    static String classNameFor(String fileName) {
+        StringBuilder className = new StringBuilder();
+        for (String part : fileName.replace(".fxml", "").split("[_\\-]")) {
+            if (!part.isEmpty()) {
+                className.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return className.append("View").toString();
+    }
+
+    private static Document parse(Path fxmlFile) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        factory.setIgnoringComments(true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        return builder.parse(fxmlFile.toFile());
+    }
+
+    private static class ViewWriter {
+        private final String fxmlPath;
+        private final String className;
+        private final Map<String, String> imports = new HashMap<>();
+        private final Map<String, String> fieldHandles = new LinkedHashMap<>();
+        private final Map<String, String> handlerHandles = new LinkedHashMap<>();
+        private final List<String> usedNames = new ArrayList<>();
+        private final StringBuilder body = new StringBuilder();
+        private String controllerClass;
+
+        ViewWriter(String fxmlPath, String className) {
+            this.fxmlPath = fxmlPath;
+            this.className = className;
+        }
+
+        String write(Document document) throws Exception {
+            for (Node node = document.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if (node instanceof ProcessingInstruction instruction && instruction.getTarget().equals("import")) {
+                    String name = instruction.getData().trim();
+                    if (name.endsWith(".*")) {
+                        throw new IllegalArgumentException("wildcard imports are not supported: " + name);
+                    }
+                    imports.put(name.substring(name.lastIndexOf('.') + 1), name);
+                }
+            }
+
+            Element root = document.getDocumentElement();
+            controllerClass = root.getAttributeNS(FX_NAMESPACE, "controller");
+            if (controllerClass.isEmpty()) {
+                throw new IllegalArgumentException("root element has no fx:controller");
+            }
+            String rootVariable = emitInstance(root);
+
+            StringBuilder source = new StringBuilder();
+            source.append("package ").append(GENERATED_PACKAGE).append(";\n\n");
+            source.append("import com.ceng453.frontend.ui.CompiledView;\n");
+            source.append("import com.ceng453.frontend.ui.CompiledViews;\n");
+            source.append("import javafx.scene.Parent;\n\n");
+            source.append("import java.lang.invoke.MethodHandle;\n");
+            source.append("import java.lang.invoke.VarHandle;\n\n");
+            source.append("// Generated by FxmlViewCompiler from ").append(fxmlPath).append(". Do not edit.\n");
+            source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+            source.append("public final class ").append(className).append(" implements CompiledView {\n");
+            source.append("    private static final Class<?> CONTROLLER = ").append(controllerClass).append(".class;\n");
+            for (Map.Entry<String, String> field : fieldHandles.entrySet()) {
+                source.append("    private static final VarHandle ").append(field.getValue())
+                        .append(" = CompiledViews.field(CONTROLLER, \"").append(field.getKey()).append("\");\n");
+            }
+            for (Map.Entry<String, String> handler : handlerHandles.entrySet()) {
+                source.append("    private static final MethodHandle ").append(handler.getValue())
+                        .append(" = CompiledViews.handler(CONTROLLER, \"").append(handler.getKey()).append("\");\n");
+            }
+            source.append("    private static final MethodHandle INITIALIZE = CompiledViews.initializer(CONTROLLER);\n\n");
+            source.append("    @Override\n");
+            source.append("    public String getFxmlPath() {\n");
+            source.append("        return \"").append(fxmlPath).append("\";\n");
+            source.append("    }\n\n");
+            source.append("    @Override\n");
+            source.append("    public Class<?> getControllerClass() {\n");
+            source.append("        return CONTROLLER;\n");
+            source.append("    }\n\n");
+            source.append("    @Override\n");
+            source.append("    public Parent build(Object controller) {\n");
+            source.append(body);
+            source.append("        CompiledViews.initialize(INITIALIZE, controller);\n");
+            source.append("        return ").append(rootVariable).append(";\n");
+            source.append("    }\n");
+            source.append("}\n");
+            return source.toString();
+        }
+
+        // Emits the construction of one instance element and returns its variable name
+        private String emitInstance(Element element) throws Exception {
+            Class<?> type = resolveClass(element.getTagName());
+            String fxId = element.getAttributeNS(FX_NAMESPACE, "id");
+            String variable = newVariableName(fxId.isEmpty() ? type.getSimpleName() : fxId);
+
+            Map<String, String> properties = new LinkedHashMap<>();
+            Map<String, String> staticProperties = new LinkedHashMap<>();
+            Map<String, String> eventHandlers = new LinkedHashMap<>();
+            NamedNodeMap attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                String name = attribute.getNodeName();
+                String value = attribute.getNodeValue();
+                if (name.startsWith("xmlns") || FX_NAMESPACE.equals(attribute.getNamespaceURI())) {
+                    continue;
+                }
+                if (name.contains(".")) {
+                    staticProperties.put(name, value);
+                } else if (name.startsWith("on") && value.startsWith("#")) {
+                    eventHandlers.put(name, value.substring(1));
+                } else if (value.startsWith("$") || value.startsWith("%") || value.startsWith("@")) {
+                    throw new IllegalArgumentException("expressions, resources and locations are not supported: " + name);
+                } else {
+                    properties.put(name, value);
+                }
+            }
+
+            String typeName = type.getCanonicalName();
+            Constructor<?> noArgConstructor = findNoArgConstructor(type);
+            if (noArgConstructor != null) {
+                line(typeName + " " + variable + " = new " + typeName + "();");
+                for (Map.Entry<String, String> property : properties.entrySet()) {
+                    emitProperty(type, variable, property.getKey(), property.getValue());
+                }
+            } else {
+                line(typeName + " " + variable + " = new " + typeName + "(" + namedArguments(type, properties) + ");");
+            }
+
+            for (Map.Entry<String, String> property : staticProperties.entrySet()) {
+                emitStaticProperty(variable, property.getKey(), property.getValue());
+            }
+            for (Map.Entry<String, String> handler : eventHandlers.entrySet()) {
+                String setter = "set" + capitalize(handler.getKey());
+                findSetter(type, handler.getKey());
+                String handle = handlerHandles.computeIfAbsent(handler.getValue(),
+                        name -> "ON_" + constantName(name));
+                line(variable + "." + setter + "(CompiledViews.handler(" + handle + ", controller));");
+            }
+            if (!fxId.isEmpty()) {
+                String handle = fieldHandles.computeIfAbsent(fxId, name -> constantName(name));
+                line("CompiledViews.inject(" + handle + ", controller, " + variable + ");");
+            }
+
+            List<String> defaultPropertyValues = new ArrayList<>();
+            for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getNodeType() == Node.TEXT_NODE) {
+                    if (!child.getNodeValue().isBlank()) {
+                        throw new IllegalArgumentException("text content is not supported in <" + element.getTagName() + ">");
+                    }
+                    continue;
+                }
+                if (!(child instanceof Element childElement)) {
+                    continue;
+                }
+                String tag = childElement.getTagName();
+                if (isInstanceTag(tag)) {
+                    defaultPropertyValues.add(emitInstance(childElement));
+                } else if (tag.contains(".")) {
+                    String value = emitSingleValue(childElement);
+                    emitStaticSetter(variable, tag, value);
+                } else {
+                    emitPropertyElement(type, variable, childElement);
+                }
+            }
+            if (!defaultPropertyValues.isEmpty()) {
+                String defaultProperty = findDefaultProperty(type);
+                emitListOrSingle(type, variable, defaultProperty, defaultPropertyValues);
+            }
+            return variable;
+        }
+
+        private void emitPropertyElement(Class<?> type, String variable, Element propertyElement) throws Exception {
+            List<String> values = new ArrayList<>();
+            for (Node child = propertyElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element childElement) {
+                    values.add(emitInstance(childElement));
+                } else if (child.getNodeType() == Node.TEXT_NODE && !child.getNodeValue().isBlank()) {
+                    throw new IllegalArgumentException("text content is not supported in <" + propertyElement.getTagName() + ">");
+                }
+            }
+            emitListOrSingle(type, variable, propertyElement.getTagName(), values);
+        }
+
+        private void emitListOrSingle(Class<?> type, String variable, String property, List<String> values) throws Exception {
+            Method getter = findGetter(type, property);
+            if (getter != null && List.class.isAssignableFrom(getter.getReturnType())) {
+                line(variable + "." + getter.getName() + "().addAll(" + String.join(", ", values) + ");");
+                return;
+            }
+            if (values.size() != 1) {
+                throw new IllegalArgumentException("property " + property + " of " + type.getSimpleName() + " takes a single value");
+            }
+            Method setter = findSetter(type, property);
+            line(variable + "." + setter.getName() + "(" + values.get(0) + ");");
+        }
+
+        private String emitSingleValue(Element propertyElement) throws Exception {
+            String value = null;
+            for (Node child = propertyElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child instanceof Element childElement) {
+                    if (value != null) {
+                        throw new IllegalArgumentException("<" + propertyElement.getTagName() + "> takes a single value");
+                    }
+                    value = emitInstance(childElement);
+                }
+            }
+            if (value == null) {
+                throw new IllegalArgumentException("<" + propertyElement.getTagName() + "> is empty");
+            }
+            return value;
+        }
+
+        private void emitProperty(Class<?> type, String variable, String name, String value) throws Exception {
+            Method getter = findGetter(type, name);
+            if (getter != null && List.class.isAssignableFrom(getter.getReturnType()) && findOptionalSetter(type, name) == null) {
+                // Read-only list properties such as styleClass take a comma separated list
+                List<String> items = new ArrayList<>();
+                for (String item : value.split(",")) {
+                    items.add(stringLiteral(item.trim()));
+                }
+                line(variable + "." + getter.getName() + "().addAll(" + String.join(", ", items) + ");");
+                return;
+            }
+            Method setter = findSetter(type, name);
+            line(variable + "." + setter.getName() + "(" + literal(setter.getParameterTypes()[0], value) + ");");
+        }
+
+        // e.g. AnchorPane.topAnchor="10.0" -> AnchorPane.setTopAnchor(node, 10.0)
+        private void emitStaticProperty(String variable, String qualifiedName, String value) throws Exception {
+            Method setter = findStaticSetter(qualifiedName);
+            line(setter.getDeclaringClass().getCanonicalName() + "." + setter.getName() + "(" + variable + ", "
+                    + literal(setter.getParameterTypes()[1], value) + ");");
+        }
+
+        private void emitStaticSetter(String variable, String qualifiedName, String valueVariable) throws Exception {
+            Method setter = findStaticSetter(qualifiedName);
+            line(setter.getDeclaringClass().getCanonicalName() + "." + setter.getName() + "(" + variable + ", " + valueVariable + ");");
+        }
+
+        private Method findStaticSetter(String qualifiedName) throws Exception {
+            int separator = qualifiedName.lastIndexOf('.');
+            Class<?> owner = resolveClass(qualifiedName.substring(0, separator));
+            String setterName = "set" + capitalize(qualifiedName.substring(separator + 1));
+            for (Method method : owner.getMethods()) {
+                if (method.getName().equals(setterName) && Modifier.isStatic(method.getModifiers())
+                        && method.getParameterCount() == 2) {
+                    return method;
+                }
+            }
+            throw new IllegalArgumentException("no static property " + qualifiedName);
+        }
+
+        // Builds the argument list for a constructor whose parameters are annotated with @NamedArg
+        private String namedArguments(Class<?> type, Map<String, String> properties) throws Exception {
+            Constructor<?> best = null;
+            for (Constructor<?> constructor : type.getConstructors()) {
+                List<String> names = new ArrayList<>();
+                for (Parameter parameter : constructor.getParameters()) {
+                    String name = namedArg(parameter, "value");
+                    if (name == null) {
+                        names = null;
+                        break;
+                    }
+                    names.add(name);
+                }
+                if (names == null || !names.containsAll(properties.keySet())) {
+                    continue;
+                }
+                if (best == null || constructor.getParameterCount() < best.getParameterCount()) {
+                    best = constructor;
+                }
+            }
+            if (best == null) {
+                throw new IllegalArgumentException("no usable constructor for " + type.getSimpleName() + " with " + properties.keySet());
+            }
+
+            List<String> arguments = new ArrayList<>();
+            for (Parameter parameter : best.getParameters()) {
+                String value = properties.get(namedArg(parameter, "value"));
+                if (value == null) {
+                    String defaultValue = namedArg(parameter, "defaultValue");
+                    value = defaultValue == null || defaultValue.isEmpty() ? null : defaultValue;
+                }
+                arguments.add(value == null ? defaultLiteral(parameter.getType()) : literal(parameter.getType(), value));
+            }
+            return String.join(", ", arguments);
+        }
+
+        private static String namedArg(Parameter parameter, String attribute) throws Exception {
+            for (Annotation annotation : parameter.getAnnotations()) {
+                if (annotation.annotationType().getName().equals("javafx.beans.NamedArg")) {
+                    return (String) annotation.annotationType().getMethod(attribute).invoke(annotation);
+                }
+            }
+            return null;
+        }
+
+        private String literal(Class<?> type, String value) throws Exception {
+            if (type == String.class || type == Object.class) {
+                return stringLiteral(value);
+            }
+            if (type == double.class || type == Double.class) {
+                return doubleLiteral(value);
+            }
+            if (type == float.class || type == Float.class) {
+                return doubleLiteral(value) + "f";
+            }
+            if (type == int.class || type == Integer.class) {
+                return String.valueOf(Integer.parseInt(value.trim()));
+            }
+            if (type == long.class || type == Long.class) {
+                return Long.parseLong(value.trim()) + "L";
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                return String.valueOf(Boolean.parseBoolean(value.trim()));
+            }
+            if (type.isEnum()) {
+                return type.getCanonicalName() + "." + enumConstant(type, value.trim());
+            }
+            if (type.getName().equals("javafx.scene.paint.Paint") || type.getName().equals("javafx.scene.paint.Color")) {
+                return type.getCanonicalName() + (type.getSimpleName().equals("Color") ? ".web(" : ".valueOf(")
+                        + stringLiteral(value.trim()) + ")";
+            }
+            try {
+                Method valueOf = type.getMethod("valueOf", String.class);
+                if (Modifier.isStatic(valueOf.getModifiers())) {
+                    return type.getCanonicalName() + ".valueOf(" + stringLiteral(value) + ")";
+                }
+            } catch (NoSuchMethodException e) {
+                // Fall through to the error below
+            }
+            throw new IllegalArgumentException("cannot convert \"" + value + "\" to " + type.getName());
+        }
+
+        private static String defaultLiteral(Class<?> type) {
+            if (type == boolean.class) {
+                return "false";
+            }
+            if (type == double.class) {
+                return "0.0";
+            }
+            if (type == float.class) {
+                return "0.0f";
+            }
+            if (type == long.class) {
+                return "0L";
+            }
+            if (type.isPrimitive()) {
+                return "0";
+            }
+            return "null";
+        }
+
+        private static String doubleLiteral(String value) {
+            String trimmed = value.trim();
+            if (trimmed.equals("Infinity")) {
+                return "Double.POSITIVE_INFINITY";
+            }
+            if (trimmed.equals("-Infinity")) {
+                return "Double.NEGATIVE_INFINITY";
+            }
+            return Double.toString(Double.parseDouble(trimmed));
+        }
+
+        // Mirrors FXMLLoader's coercion: exact constant name first, then camelCase -> UPPER_CASE
+        private static String enumConstant(Class<?> type, String value) {
+            List<String> candidates = List.of(value, value.toUpperCase(Locale.ROOT),
+                    value.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT));
+            for (Object constant : type.getEnumConstants()) {
+                String name = ((Enum<?>) constant).name();
+                if (candidates.contains(name)) {
+                    return name;
+                }
+            }
+            throw new IllegalArgumentException(value + " is not a constant of " + type.getName());
+        }
+
+        private static String stringLiteral(String value) {
+            StringBuilder literal = new StringBuilder("\"");
+            for (char c : value.toCharArray()) {
+                switch (c) {
+                    case '"' -> literal.append("\\\"");
+                    case '\\' -> literal.append("\\\\");
+                    case '\n' -> literal.append("\\n");
+                    case '\r' -> literal.append("\\r");
+                    case '\t' -> literal.append("\\t");
+                    default -> literal.append(c);
+                }
+            }
+            return literal.append('"').toString();
+        }
+
+        private Class<?> resolveClass(String name) throws ClassNotFoundException {
+            String className = imports.getOrDefault(name, name);
+            if (!className.contains(".")) {
+                throw new ClassNotFoundException(name + " is not imported");
+            }
+            return Class.forName(className, false, FxmlViewCompiler.class.getClassLoader());
+        }
+
+        private static boolean isInstanceTag(String tag) {
+            String simpleName = tag.substring(tag.lastIndexOf('.') + 1);
+            // "VBox.margin" is a static property, "VBox" or "javafx.scene.layout.VBox" are instances
+            return Character.isUpperCase(simpleName.charAt(0))
+                    && (!tag.contains(".") || Character.isLowerCase(tag.charAt(0)));
+        }
+
+        private static Constructor<?> findNoArgConstructor(Class<?> type) {
+            try {
+                return type.getConstructor();
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+
+        private static Method findGetter(Class<?> type, String property) {
+            for (String prefix : new String[]{"get", "is"}) {
+                try {
+                    return type.getMethod(prefix + capitalize(property));
+                } catch (NoSuchMethodException e) {
+                    // Try the next prefix
+                }
+            }
+            return null;
+        }
+
+        private static Method findOptionalSetter(Class<?> type, String property) {
+            String setterName = "set" + capitalize(property);
+            for (Method method : type.getMethods()) {
+                if (method.getName().equals(setterName) && method.getParameterCount() == 1
+                        && !Modifier.isStatic(method.getModifiers())) {
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        private static Method findSetter(Class<?> type, String property) {
+            Method setter = findOptionalSetter(type, property);
+            if (setter == null) {
+                throw new IllegalArgumentException("no property " + property + " on " + type.getSimpleName());
+            }
+            return setter;
+        }
+
+        private static String findDefaultProperty(Class<?> type) throws Exception {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                for (Annotation annotation : current.getDeclaredAnnotations()) {
+                    if (annotation.annotationType().getName().equals("javafx.beans.DefaultProperty")) {
+                        return (String) annotation.annotationType().getMethod("value").invoke(annotation);
+                    }
+                }
+            }
+            throw new IllegalArgumentException(type.getSimpleName() + " has no default property");
+        }
+
+        private String newVariableName(String base) {
+            String name = Character.toLowerCase(base.charAt(0)) + base.substring(1);
+            if (!name.matches("[A-Za-z_][A-Za-z0-9_]*")) {
+                throw new IllegalArgumentException("invalid fx:id " + base);
+            }
+            String candidate = name;
+            for (int i = 2; usedNames.contains(candidate) || candidate.equals("controller"); i++) {
+                candidate = name + i;
+            }
+            usedNames.add(candidate);
+            return candidate;
+        }
+
+        private static String constantName(String name) {
+            return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        }
+
+        private static String capitalize(String name) {
+            return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+
+        private void line(String code) {
+            body.append("        ").append(code).append('\n');
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package com.ceng453.frontend;
 
+import com.ceng453.frontend.ui.AssetPreloader;
+import com.ceng453.frontend.ui.CardImageCache;
 import com.ceng453.frontend.ui.SceneManager;
+import com.ceng453.frontend.ui.SoundEngine;
+import com.ceng453.frontend.ui.UnoPreloader;
 import javafx.application.Application;
+import javafx.application.Preloader;
 import javafx.stage.Stage;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ConfigurableApplicationContext;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @SpringBootApplication
 public class UnoApplication extends Application {
 
@@ -15,12 +23,38 @@ public class UnoApplication extends Application {
     
     public static void main(String[] args) {
         savedArgs = args;
+        // Show the loading splash while init() runs
+        System.setProperty("javafx.preloader", UnoPreloader.class.getName());
         launch(args);
     }
     
     @Override
     public void init() {
-        springContext = SpringApplication.run(UnoApplication.class, savedArgs);
+        // Warm the assets in the background while Spring boots on this thread
+        CardImageCache imageCache = new CardImageCache();
+        SoundEngine soundEngine = new SoundEngine();
+        AssetPreloader assetPreloader = new AssetPreloader(imageCache, soundEngine);
+        // Spring startup counts as one extra step of the overall progress
+        double totalSteps = assetPreloader.getTaskCount() + 1;
+        // Only forward whole-percent changes so the worker threads don't queue up on the FX thread
+        AtomicInteger lastPercent = new AtomicInteger(-1);
+        CompletableFuture<Void> assetsReady = assetPreloader.start(assetProgress -> {
+            double progress = assetProgress * (totalSteps - 1) / totalSteps;
+            int percent = (int) (progress * 100);
+            if (lastPercent.getAndAccumulate(percent, Math::max) < percent) {
+                notifyPreloader(new Preloader.ProgressNotification(progress));
+            }
+        });
+        
+        SpringApplication springApplication = new SpringApplication(UnoApplication.class);
+        springApplication.addInitializers(context -> {
+            context.getBeanFactory().registerSingleton("cardImageCache", imageCache);
+            context.getBeanFactory().registerSingleton("soundEngine", soundEngine);
+        });
+        springContext = springApplication.run(savedArgs);
+        
+        assetsReady.join();
+        notifyPreloader(new Preloader.ProgressNotification(1.0));
     }
     
     @Override
@@ -3,7 +3,21 @@ package com.ceng453.frontend.controller;
 import com.ceng453.frontend.model.Card;
 import com.ceng453.frontend.model.Game;
 import com.ceng453.frontend.model.Player;
+import com.ceng453.frontend.model.User;
+import com.ceng453.frontend.service.GameResultOutbox;
+import com.ceng453.frontend.ui.CanvasBoardRenderer;
+import com.ceng453.frontend.ui.CardAnimator;
+import com.ceng453.frontend.ui.CardImageCache;
+import com.ceng453.frontend.ui.PerfHud;
+import com.ceng453.frontend.ui.SceneLifecycle;
 import com.ceng453.frontend.ui.SceneManager;
+import com.ceng453.frontend.ui.SeatLayout;
+import com.ceng453.frontend.ui.SeatRingPane;
+import com.ceng453.frontend.ui.SeatView;
+import com.ceng453.frontend.ui.SoundEngine;
+import com.ceng453.frontend.ui.SpectatorRunner;
+import com.ceng453.frontend.ui.StateStyles;
+import com.ceng453.frontend.ui.TurnScheduler;
 import javafx.animation.KeyFrame;
 import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
@@ -11,15 +25,21 @@ import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
-import javafx.scene.effect.ColorAdjust;
+import javafx.scene.control.Slider;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -30,27 +50,117 @@ import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import javafx.util.Duration;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Controller;
 
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
+// Prototype scoped: every game board scene owns its controller, and both are dropped together
 @Controller
-public class GameBoardController {
-    // Image paths
-    private static final String CARD_IMAGES_PATH = "/images/cards/";
-    private static final String CARD_BACK_IMAGE = "/images/card_back.png";
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+public class GameBoardController implements SceneLifecycle {
+    // CPU speed options offered on the board
+    private static final String INSTANT_SPEED = "Instant";
+    private static final List<String> SPEED_OPTIONS = List.of("0.25x", "0.5x", "1x", "2x", "5x", "10x", INSTANT_SPEED);
+    // Above this many cards on the table (one node each) the board is drawn on a canvas instead;
+    // it only switches back below the lower bound so a count hovering at the limit doesn't flip every turn
+    private static final int CANVAS_CARD_THRESHOLD = 60;
+    private static final int NODE_CARD_THRESHOLD = 45;
+    // Table sizes offered on the board; the human is always seat 0
+    private static final int DEFAULT_PLAYER_COUNT = 4;
+    private static final List<String> PLAYER_COUNT_OPTIONS = IntStream.rangeClosed(Game.MIN_PLAYERS, Game.MAX_PLAYERS)
+            .mapToObj(count -> count + " Players")
+            .toList();
+    // Card flights run at 1x in this time and are skipped above MAX_ANIMATED_SPEED, in instant mode,
+    // while spectating and on the canvas board
+    private static final double CARD_FLIGHT_MILLIS = 300;
+    private static final double MAX_ANIMATED_SPEED = 2.0;
+    private static final int MAX_DRAWN_CARDS_ANIMATED = 3;
+    // Spectated games faster than this play silently; every move would be a click otherwise
+    private static final double MAX_SPECTATE_SOUND_RATE = 10.0;
+    // Key that shows and hides the performance HUD, and the names of the sections it times
+    private static final KeyCode PERF_HUD_KEY = KeyCode.F3;
+    private static final String UPDATE_UI_SECTION = "updateGameUI";
+    private static final String CPU_TURN_SECTION = "Game.playCpuTurn";
+    private static final String RENDER_SECTION = "renderBoard";
     
     // Spring-injected dependencies
     private final SceneManager sceneManager;
+    private final CardImageCache imageCache;
+    private final SoundEngine soundEngine;
+    private final GameResultOutbox gameResultOutbox;
     
     // Game state
     private Game game;
     private Card lastPlayedCard;
     private boolean waitingForColorSelection;
     
+    // Plays the CPU turns one after another from a single timer; cancelled when the board is hidden
+    private final TurnScheduler turnScheduler = new TurnScheduler(new TurnScheduler.TurnDriver() {
+        @Override
+        public boolean hasPendingTurn() {
+            return game != null && spectatorRunner == null && !game.isGameOver() && !isHumanTurn()
+                    && !waitingForColorSelection;
+        }
+        
+        @Override
+        public void playTurn() {
+            playCPUTurn();
+        }
+        
+        @Override
+        public void render() {
+            renderBoard();
+            if (game.isGameOver()) {
+                game.getPlayers().stream()
+                        .filter(Player::hasWon)
+                        .findFirst()
+                        .ifPresent(GameBoardController.this::handleGameOver);
+            }
+        }
+    });
+    // Bumped for every new game so callbacks queued for an older game can detect they are stale
+    private int gameSession;
+    
+    // Canvas renderer for very large tables; null if the view has no canvas pane
+    private CanvasBoardRenderer canvasRenderer;
+    private boolean canvasMode;
+    
+    // Runs the all-CPU spectated game off the FX thread; null unless spectating.
+    // While spectating, game holds the latest snapshot from the runner, never the live game.
+    private SpectatorRunner spectatorRunner;
+    
+    // Number of seats at the table, including the human, and the generated opponent seats
+    private int playerCount = DEFAULT_PLAYER_COUNT;
+    private final List<SeatView> opponentSeats = new ArrayList<>();
+    private final SeatRingPane seatRing = new SeatRingPane();
+    
+    // Card flights; the hand sizes and top card of the last render tell what moved since
+    private CardAnimator cardAnimator;
+    private int[] lastHandSizes;
+    private Card lastTopCard;
+    
+    // Performance overlay on the animation layer; hidden (and idle) until PERF_HUD_KEY is pressed
+    private PerfHud perfHud;
+    
+    // Set while the board is one of several tables and not on screen: turns keep playing but nothing
+    // is drawn, and the board catches up with a single render when it comes back
+    private boolean background;
+    private boolean renderPending;
+    // Set when the board is a table inside the multi-table view; a finished game then stays on the table
+    private boolean tableMode;
+    
+    // Redraws the cards once the image cache has re-decoded them at a new resolution
+    private final Runnable onImageTierChanged = () -> {
+        if (game != null) {
+            renderBoard();
+        }
+    };
+    
     // FXML elements
     @FXML private Label currentPlayerLabel;
     @FXML private Label currentColorLabel;
@@ -58,115 +168,497 @@ public class GameBoardController {
     @FXML private Label gameStateLabel;
     
     @FXML private FlowPane playerHandPane;
-    @FXML private FlowPane cpu1HandPane;
-    @FXML private FlowPane cpu2HandPane;
-    @FXML private FlowPane cpu3HandPane;
+    @FXML private StackPane opponentSeatsPane;
     
     @FXML private StackPane discardPilePane;
+    @FXML private StackPane canvasBoardPane;
+    @FXML private Pane animationLayer;
     @FXML private HBox colorSelectionPane;
     
     @FXML private Circle playerTurn;
-    @FXML private Circle cpu1Turn;
-    @FXML private Circle cpu2Turn;
-    @FXML private Circle cpu3Turn;
-    
     @FXML private Label playerLabel;
-    @FXML private Label cpu1Label;
-    @FXML private Label cpu2Label;
-    @FXML private Label cpu3Label;
+    @FXML private VBox playerSeat;
     
     @FXML private Button drawCardButton;
     @FXML private Button unoButton;
     @FXML private Button fullscreenButton;
+    @FXML private ComboBox<String> speedComboBox;
+    @FXML private ComboBox<String> playerCountComboBox;
+    @FXML private ToggleButton spectateButton;
+    @FXML private Slider spectateSpeedSlider;
     
-    public GameBoardController(SceneManager sceneManager) {
+    public GameBoardController(SceneManager sceneManager, CardImageCache imageCache, SoundEngine soundEngine,
+                               GameResultOutbox gameResultOutbox) {
         this.sceneManager = sceneManager;
+        this.imageCache = imageCache;
+        this.soundEngine = soundEngine;
+        this.gameResultOutbox = gameResultOutbox;
     }
     
     @FXML
     public void initialize() {
+        // The scene may be built ahead of time on a background thread, so the game itself
+        // is only started in onShow() once the board is actually shown
+        
+        // CPU turn speed; "Instant" resolves a whole chain of CPU turns at once
+        if (speedComboBox != null) {
+            speedComboBox.getItems().setAll(SPEED_OPTIONS);
+            speedComboBox.getSelectionModel().select("1x");
+            speedComboBox.getSelectionModel().selectedItemProperty().addListener(
+                    (observable, oldValue, newValue) -> applySpeed(newValue));
+        }
+        
+        // Table size; changing it starts a new game (or a new spectated game)
+        if (playerCountComboBox != null) {
+            playerCountComboBox.getItems().setAll(PLAYER_COUNT_OPTIONS);
+            playerCountComboBox.getSelectionModel().select(DEFAULT_PLAYER_COUNT - Game.MIN_PLAYERS);
+            playerCountComboBox.getSelectionModel().selectedItemProperty().addListener(
+                    (observable, oldValue, newValue) -> applyPlayerCount(newValue));
+        }
+        
+        if (opponentSeatsPane != null) {
+            opponentSeatsPane.getChildren().add(seatRing);
+        }
+        
+        if (animationLayer != null) {
+            cardAnimator = new CardAnimator(animationLayer);
+            perfHud = new PerfHud(imageCache);
+            perfHud.relocate(10, 60);
+            animationLayer.getChildren().add(perfHud);
+            // A filter on the board's root sees the key wherever the focus is inside the board
+            animationLayer.getParent().addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+                if (event.getCode() == PERF_HUD_KEY) {
+                    perfHud.toggle();
+                    event.consume();
+                }
+            });
+        }
+        
+        // Spectate speed; the slider is logarithmic and its right end means unbounded
+        if (spectateSpeedSlider != null) {
+            spectateSpeedSlider.valueProperty().addListener(
+                    (observable, oldValue, newValue) -> applySpectateSpeed());
+        }
+        
+        // The canvas board does its own hit-testing and reports clicks by hand index
+        if (canvasBoardPane != null) {
+            canvasRenderer = new CanvasBoardRenderer(imageCache);
+            canvasRenderer.setOnHumanCardClicked(index -> {
+                if (game != null) {
+                    handleCardClick(game.getPlayers().get(0).getHand().get(index), index);
+                }
+            });
+            canvasBoardPane.getChildren().add(canvasRenderer.getNode());
+        }
+        
+        imageCache.addTierListener(onImageTierChanged);
+    }
+    
+    private void applySpeed(String option) {
+        if (option == null) {
+            return;
+        }
+        if (option.equals(INSTANT_SPEED)) {
+            turnScheduler.setInstant(true);
+        } else {
+            turnScheduler.setInstant(false);
+            turnScheduler.setSpeed(Double.parseDouble(option.substring(0, option.length() - 1)));
+        }
+    }
+    
+    private void applyPlayerCount(String option) {
+        if (option == null) {
+            return;
+        }
+        int count = Integer.parseInt(option.substring(0, option.indexOf(' ')));
+        if (count == playerCount) {
+            return;
+        }
+        playerCount = count;
+        if (game == null) {
+            // Not shown yet; onShow() will use the new count
+            return;
+        }
+        if (spectatorRunner != null) {
+            startSpectating();
+        } else {
+            startGame();
+        }
+    }
+    
+    private void applySpectateSpeed() {
+        if (spectatorRunner == null || spectateSpeedSlider == null) {
+            return;
+        }
+        double value = spectateSpeedSlider.getValue();
+        spectatorRunner.setTurnsPerSecond(value >= spectateSpeedSlider.getMax()
+                ? SpectatorRunner.UNBOUNDED
+                : SpectatorRunner.REAL_TIME_TURNS_PER_SECOND * Math.pow(10, value));
+    }
+    
+    @Override
+    public void onShow() {
+        stopSpectating();
+        startGame();
+    }
+    
+    private void startGame() {
         try {
             // Get the player name from the current user
             String playerName = sceneManager.getCurrentUser() != null ? 
                     sceneManager.getCurrentUser().getUsername() : "Player";
             
-            // Initialize a new game with one human player and three CPU players
+            // Initialize a new game with one human player and the rest CPU players
+            gameSession++;
+            turnScheduler.cancel();
+            resetCardFlights();
             game = new Game();
-            game.initializeSinglePlayerGame(playerName);
+            game.initializeSinglePlayerGame(playerName, playerCount - 1);
+            buildSeats();
             
             // Hide color selection pane initially
             if (colorSelectionPane != null) {
                 colorSelectionPane.setVisible(false);
             }
             waitingForColorSelection = false;
+            lastPlayedCard = null;
             
-            // Initial update of all UI elements
+            // Initial update of all UI elements; this also starts the CPU turns if a CPU begins
             updateGameUI();
-            
-            // Automatically play for CPU if they start first
-            if (!isHumanTurn()) {
-                playCPUTurn();
-            }
         } catch (Exception e) {
             showMessage("Error initializing game: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
-    private void initializeGame() {
-        // Create a new game
-        game = new Game();
+    @Override
+    public void onHide() {
+        // Stop the CPU turn chain and forget the game so nothing keeps running against it
+        turnScheduler.cancel();
+        stopSpectating();
+        resetCardFlights();
+        if (perfHud != null) {
+            perfHud.setActive(false);
+        }
+        gameSession++;
+        game = null;
+        waitingForColorSelection = false;
+        lastPlayedCard = null;
         
-        // Initialize with the player's name (or "Player" if not logged in)
-        String playerName = sceneManager.getCurrentUser() != null ? 
-                sceneManager.getCurrentUser().getUsername() : "Player";
+        // Release the card nodes; they are rebuilt from scratch for the next game
+        clearChildren(playerHandPane);
+        for (SeatView seat : opponentSeats) {
+            clearChildren(seat.getHandPane());
+        }
+        clearChildren(discardPilePane);
+        if (canvasRenderer != null) {
+            canvasRenderer.clear();
+        }
+        if (colorSelectionPane != null) {
+            colorSelectionPane.setVisible(false);
+        }
+        showMessage("");
+    }
+    
+    // Makes this board one of several tables: game over no longer leaves for the main menu
+    public void setTableMode(boolean tableMode) {
+        this.tableMode = tableMode;
+    }
+    
+    public boolean isBackground() {
+        return background;
+    }
+    
+    public void setBackground(boolean background) {
+        if (this.background == background) {
+            return;
+        }
+        this.background = background;
+        if (spectatorRunner != null) {
+            spectatorRunner.setFramesPaused(background);
+        }
+        if (background) {
+            // Flights would be stale by the time the table is shown again
+            resetCardFlights();
+        } else if (renderPending && game != null) {
+            renderBoard();
+        }
+    }
+    
+    // The game on the board, or a snapshot of it while spectating; package-private for the UI benchmark
+    Game getGame() {
+        return game;
+    }
+    
+    @Override
+    public void dispose() {
+        SceneLifecycle.super.dispose();
+        imageCache.removeTierListener(onImageTierChanged);
+    }
+    
+    @FXML
+    public void toggleSpectate(ActionEvent event) {
+        if (spectateButton != null && spectateButton.isSelected()) {
+            startSpectating();
+        } else {
+            stopSpectating();
+            startGame();
+        }
+    }
+    
+    // Replaces the current game with one where every seat of the chosen table size is a CPU player
+    private void startSpectating() {
+        stopSpectating();
+        turnScheduler.cancel();
+        resetCardFlights();
+        gameSession++;
+        waitingForColorSelection = false;
+        lastPlayedCard = null;
+        if (colorSelectionPane != null) {
+            colorSelectionPane.setVisible(false);
+        }
         
-        // Start a single player game with 3 CPU opponents
-        game.initializeSinglePlayerGame(playerName);
+        Game spectatedGame = new Game();
+        spectatedGame.initializeSpectatorGame(playerCount);
+        game = spectatedGame.snapshot();
+        buildSeats();
+        spectatorRunner = new SpectatorRunner(spectatedGame, this::showSpectatorFrame);
+        spectatorRunner.setFramesPaused(background);
+        applySpectateSpeed();
+        setSpectateControlsVisible(true);
         
-        // Update the UI
-        updateGameUI();
+        renderBoard();
+        spectatorRunner.start();
     }
     
-    private void updateGameUI() {
-        try {
-            updateDiscardPile();
-            updatePlayerHand();
-            updateCPUHandPanes();
-            updatePlayerTurnIndicators();
-            updateUnoIndicators();
-            
-            // Update current color indicator
-            if (currentColorLabel != null) {
-                Card.Color currentColor = game.getCurrentColor();
-                currentColorLabel.setText("Current Color: " + currentColor.toString());
-                String colorStyle = getColorStyle(currentColor);
-                currentColorLabel.setStyle("-fx-font-weight: bold; " + colorStyle);
+    private void stopSpectating() {
+        if (spectatorRunner == null) {
+            return;
+        }
+        spectatorRunner.stop();
+        spectatorRunner = null;
+        if (spectateButton != null) {
+            spectateButton.setSelected(false);
+        }
+        setSpectateControlsVisible(false);
+    }
+    
+    // Called at most once per pulse with the newest snapshot of the spectated game
+    private void showSpectatorFrame(Game frame) {
+        game = frame;
+        renderBoard();
+        
+        if (frame.isGameOver()) {
+            String winner = frame.getPlayers().stream()
+                    .filter(Player::hasWon)
+                    .map(Player::getName)
+                    .findFirst()
+                    .orElse("Nobody");
+            showMessage(String.format("%s won after %,d turns", winner, spectatorRunner.getTurnsPlayed()));
+        } else {
+            showMessage(String.format("Spectating: %,.0f turns/s, %,d turns played",
+                    spectatorRunner.getMeasuredTurnsPerSecond(), spectatorRunner.getTurnsPlayed()));
+        }
+    }
+    
+    private void setSpectateControlsVisible(boolean spectating) {
+        if (speedComboBox != null) {
+            speedComboBox.setVisible(!spectating);
+            speedComboBox.setManaged(!spectating);
+        }
+        if (spectateSpeedSlider != null) {
+            spectateSpeedSlider.setVisible(spectating);
+            spectateSpeedSlider.setManaged(spectating);
+        }
+    }
+    
+    private void clearChildren(Pane pane) {
+        if (pane != null) {
+            pane.getChildren().clear();
+        }
+    }
+    
+    // Creates one opponent seat per CPU player; seats are reused while the table size stays the same
+    private void buildSeats() {
+        List<Player> players = game.getPlayers();
+        if (opponentSeats.size() != players.size() - 1) {
+            double handWidth = players.size() > SeatLayout.LARGE_TABLE_SEATS ? 180 : 300;
+            opponentSeats.clear();
+            for (int i = 1; i < players.size(); i++) {
+                opponentSeats.add(new SeatView(players.get(i).getName(), handWidth));
             }
+            seatRing.getChildren().setAll(opponentSeats);
+        }
+        
+        for (int i = 1; i < players.size(); i++) {
+            opponentSeats.get(i - 1).setName(players.get(i).getName());
+        }
+        if (playerLabel != null) {
+            playerLabel.setText(players.get(0).getName());
+        }
+    }
+    
+    // Package-private for the UI benchmark (src/bench/java), which times it at different hand sizes
+    void updateGameUI() {
+        long started = perfHud != null ? perfHud.start() : 0;
+        try {
+            renderBoard();
             
             // Clear any previous messages
             if (gameStateLabel != null) {
                 gameStateLabel.setText("");
             }
             
-            // Check if it's CPU's turn and play automatically
-            if (!isHumanTurn() && !game.isGameOver() && !waitingForColorSelection) {
-                playCPUTurn();
-            }
+            // Check if it's CPU's turn and play automatically (no-op if already scheduled)
+            turnScheduler.requestTurn();
         } catch (Exception e) {
             e.printStackTrace();
             System.err.println("Error updating game UI: " + e.getMessage());
         }
+        if (perfHud != null) {
+            perfHud.record(UPDATE_UI_SECTION, started);
+        }
     }
     
-    private String getColorStyle(Card.Color color) {
-        return switch (color) {
-            case RED -> "-fx-text-fill: #ff4136;";
-            case BLUE -> "-fx-text-fill: #0074D9;";
-            case GREEN -> "-fx-text-fill: #2ECC40;";
-            case YELLOW -> "-fx-text-fill: #FFDC00;";
-            default -> "-fx-text-fill: white;";
-        };
+    // Brings every board element up to date with the game, without starting any turns
+    private void renderBoard() {
+        if (background) {
+            renderPending = true;
+            return;
+        }
+        renderPending = false;
+        long started = perfHud != null ? perfHud.start() : 0;
+        updateRenderMode();
+        if (canvasMode) {
+            canvasRenderer.render(game, this::isCardPlayable);
+        } else {
+            updateDiscardPile();
+            updatePlayerHand();
+            updateCPUHandPanes();
+            updateSeatIndicators();
+        }
+        animateChanges();
+        
+        // Update current player label
+        if (currentPlayerLabel != null) {
+            Player currentPlayer = game.getPlayers().get(game.getCurrentPlayerIndex());
+            currentPlayerLabel.setText("Current Player: " + currentPlayer.getName());
+        }
+        
+        // Update direction indicator
+        if (directionLabel != null) {
+            directionLabel.setText("Direction: " + (game.isClockwise() ? "Clockwise" : "Counter-Clockwise"));
+        }
+        
+        // Update current color indicator
+        if (currentColorLabel != null) {
+            Card.Color currentColor = game.getCurrentColor();
+            currentColorLabel.setText("Current Color: " + currentColor.toString());
+            StateStyles.setCardColor(currentColorLabel, currentColor);
+        }
+        if (perfHud != null) {
+            perfHud.record(RENDER_SECTION, started);
+        }
+    }
+    
+    // Flies the cards that moved since the last render: a played card from its hand to the
+    // discard pile, drawn cards from the deck (the Draw Card button) into the hand
+    private void animateChanges() {
+        List<Player> players = game.getPlayers();
+        int[] handSizes = players.stream().mapToInt(Player::getCardCount).toArray();
+        Card topCard = game.getTopCard();
+        
+        if (cardAnimator != null && lastHandSizes != null && lastHandSizes.length == handSizes.length
+                && cardFlightsEnabled()) {
+            Duration duration = Duration.millis(CARD_FLIGHT_MILLIS / Math.max(1.0, turnScheduler.getSpeed()));
+            for (int i = 0; i < handSizes.length; i++) {
+                FlowPane hand = i == 0 ? playerHandPane : opponentSeats.get(i - 1).getHandPane();
+                int change = handSizes[i] - lastHandSizes[i];
+                if (change < 0 && topCard != lastTopCard) {
+                    Node discardView = discardPilePane.getChildren().isEmpty() ? null : discardPilePane.getChildren().get(0);
+                    cardAnimator.fly(imageCache.get(topCard), hand, discardPilePane, duration, Duration.ZERO, discardView);
+                } else if (change > 0) {
+                    List<Node> cards = hand.getChildren();
+                    for (int k = 0; k < Math.min(change, MAX_DRAWN_CARDS_ANIMATED) && k < cards.size(); k++) {
+                        cardAnimator.fly(imageCache.getCardBack(), drawCardButton, hand, duration,
+                                duration.multiply(0.2 * k), cards.get(cards.size() - 1 - k));
+                    }
+                }
+            }
+        }
+        
+        if (lastHandSizes != null && lastHandSizes.length == handSizes.length && soundsEnabled()) {
+            playSounds(handSizes, topCard);
+        }
+        lastHandSizes = handSizes;
+        lastTopCard = topCard;
+    }
+    
+    // One sound per kind of change since the last render; several CPU moves resolved in the same
+    // frame therefore sound once, and the SoundEngine merges anything closer together than that
+    private void playSounds(int[] handSizes, Card topCard) {
+        if (topCard != lastTopCard && topCard != null) {
+            soundEngine.play(switch (topCard.getType()) {
+                case SKIP -> SoundEngine.Sound.SKIP;
+                case REVERSE -> SoundEngine.Sound.REVERSE;
+                default -> SoundEngine.Sound.PLAY;
+            });
+        }
+        for (int i = 0; i < handSizes.length; i++) {
+            if (handSizes[i] > lastHandSizes[i]) {
+                soundEngine.play(SoundEngine.Sound.DRAW);
+            } else if (handSizes[i] == 1 && lastHandSizes[i] > 1) {
+                soundEngine.play(SoundEngine.Sound.UNO);
+            }
+        }
+    }
+    
+    private boolean soundsEnabled() {
+        return spectatorRunner == null || spectatorRunner.getTurnsPerSecond() <= MAX_SPECTATE_SOUND_RATE;
+    }
+    
+    private boolean cardFlightsEnabled() {
+        return !canvasMode && spectatorRunner == null && !turnScheduler.isInstant()
+                && turnScheduler.getSpeed() <= MAX_ANIMATED_SPEED;
+    }
+    
+    private void resetCardFlights() {
+        if (cardAnimator != null) {
+            cardAnimator.cancelAll();
+        }
+        lastHandSizes = null;
+        lastTopCard = null;
+    }
+    
+    // Switches between one node per card and the canvas board depending on how many cards are out
+    private void updateRenderMode() {
+        if (canvasRenderer == null) {
+            return;
+        }
+        int cardCount = game.getPlayers().stream().mapToInt(Player::getCardCount).sum();
+        boolean useCanvas = canvasMode ? cardCount >= NODE_CARD_THRESHOLD : cardCount > CANVAS_CARD_THRESHOLD;
+        if (useCanvas == canvasMode) {
+            return;
+        }
+        canvasMode = useCanvas;
+        
+        for (Pane seat : new Pane[]{playerSeat, opponentSeatsPane, discardPilePane}) {
+            if (seat != null) {
+                seat.setVisible(!canvasMode);
+            }
+        }
+        canvasBoardPane.setVisible(canvasMode);
+        
+        if (canvasMode) {
+            // Drop the card nodes while the canvas is in charge
+            clearChildren(playerHandPane);
+            for (SeatView seat : opponentSeats) {
+                clearChildren(seat.getHandPane());
+            }
+            clearChildren(discardPilePane);
+        } else {
+            canvasRenderer.clear();
+        }
     }
     
     private void updatePlayerHand() {
@@ -176,7 +668,6 @@ public class GameBoardController {
                 
                 // Get the human player's hand
                 List<Card> hand = game.getPlayers().get(0).getHand();
-                Card topCard = game.getTopCard();
                 
                 // Create an image view for each card
                 for (Card card : hand) {
@@ -184,38 +675,10 @@ public class GameBoardController {
                     cardView.setFitWidth(80);
                     cardView.setFitHeight(120);
                     
-                    // Check if card is playable
-                    boolean isPlayable = true;
-                    
-                    // Only apply playability checks and visual fading when it's the player's turn
-                    if (isHumanTurn()) {
-                        // First check if there are any Draw Four or Draw Two stacks active
-                        if (game.getDrawFourCounter() > 0) {
-                            // Can only play Wild Draw Four on a Draw Four stack
-                            isPlayable = (card.getType() == Card.Type.WILD_DRAW_FOUR);
-                        } else if (game.getDrawTwoCounter() > 0) {
-                            // Can only play Draw Two on a Draw Two stack
-                            isPlayable = (card.getType() == Card.Type.DRAW_TWO);
-                        } else {
-                            // Regular playability check
-                            isPlayable = card.canBePlayedOn(topCard);
-                        }
-                        
-                        // Apply visual effect based on playability
-                        if (!isPlayable) {
-                            // Make unplayable cards appear faded
-                            cardView.setOpacity(0.5);
-                            cardView.setEffect(new ColorAdjust(0, -0.5, -0.5, 0)); // Reduce saturation and brightness
-                        } else {
-                            // Highlight playable cards
-                            cardView.setOpacity(1.0);
-                            cardView.setEffect(null);
-                        }
-                    } else {
-                        // Not player's turn - all cards appear normal
-                        cardView.setOpacity(1.0);
-                        cardView.setEffect(null);
-                    }
+                    // Only apply playability checks and visual fading when it's the player's turn;
+                    // the look of each state comes from styles.css
+                    cardView.getStyleClass().add(StateStyles.HAND_CARD);
+                    StateStyles.setPlayable(cardView, isHumanTurn() ? isCardPlayable(card) : null);
                     
                     // Add click handler for player's cards
                     int cardIndex = hand.indexOf(card);
@@ -230,13 +693,33 @@ public class GameBoardController {
         }
     }
     
+    // Whether a card in the human hand is shown as playable; every card counts as playable off-turn
+    private boolean isCardPlayable(Card card) {
+        if (!isHumanTurn()) {
+            return true;
+        }
+        // First check if there are any Draw Four or Draw Two stacks active
+        if (game.getDrawFourCounter() > 0) {
+            // Can only play Wild Draw Four on a Draw Four stack
+            return card.getType() == Card.Type.WILD_DRAW_FOUR;
+        } else if (game.getDrawTwoCounter() > 0) {
+            // Can only play Draw Two on a Draw Two stack
+            return card.getType() == Card.Type.DRAW_TWO;
+        }
+        // Regular playability check
+        return card.canBePlayedOn(game.getTopCard());
+    }
+    
     private void updateCPUHandPanes() {
-        updateCPUHandPane(cpu1HandPane, game.getPlayers().get(1));
-        updateCPUHandPane(cpu2HandPane, game.getPlayers().get(2));
-        updateCPUHandPane(cpu3HandPane, game.getPlayers().get(3));
+        List<Player> players = game.getPlayers();
+        double cardWidth = players.size() > SeatLayout.LARGE_TABLE_SEATS ? 40 : 60;
+        for (int i = 1; i < players.size(); i++) {
+            updateCPUHandPane(opponentSeats.get(i - 1).getHandPane(), players.get(i), cardWidth);
+        }
     }
     
-    private void updateCPUHandPane(FlowPane pane, Player cpuPlayer) {
+    private void updateCPUHandPane(FlowPane pane, Player cpuPlayer, double cardWidth) {
+        double cardHeight = cardWidth * 1.5;
         try {
             if (pane != null) {
                 pane.getChildren().clear();
@@ -244,18 +727,16 @@ public class GameBoardController {
                 // Show CPU cards face-up for testing purposes as requested by professor
                 for (Card card : cpuPlayer.getHand()) {
                     try {
-                        String imagePath = "/images/cards/" + card.getImageFileName();
-                        InputStream stream = getClass().getResourceAsStream(imagePath);
+                        Image image = imageCache.get(card);
                         
-                        if (stream != null) {
-                            System.out.println("Loading card image: " + imagePath);
-                            ImageView cardView = new ImageView(new Image(stream));
-                            cardView.setFitWidth(60);
-                            cardView.setFitHeight(90);
+                        if (image != null) {
+                            ImageView cardView = new ImageView(image);
+                            cardView.setFitWidth(cardWidth);
+                            cardView.setFitHeight(cardHeight);
                             pane.getChildren().add(cardView);
                         } else {
                             // Fallback if image can't be loaded
-                            Rectangle rect = new Rectangle(60, 90, Color.DARKGRAY);
+                            Rectangle rect = new Rectangle(cardWidth, cardHeight, Color.DARKGRAY);
                             rect.setStroke(Color.BLACK);
                             rect.setStrokeWidth(2);
                             Text cardText = new Text(card.toString());
@@ -267,7 +748,7 @@ public class GameBoardController {
                         System.err.println("Error loading CPU card image: " + e.getMessage());
                         
                         // Fallback if there's an error
-                        Rectangle rect = new Rectangle(60, 90, Color.DARKGRAY);
+                        Rectangle rect = new Rectangle(cardWidth, cardHeight, Color.DARKGRAY);
                         rect.setStroke(Color.BLACK);
                         rect.setStrokeWidth(2);
                         Text cardText = new Text(card.toString());
@@ -300,8 +781,8 @@ public class GameBoardController {
                     // Add a label showing the current color if it's a wild card
                     if (topCard.getType() == Card.Type.WILD || topCard.getType() == Card.Type.WILD_DRAW_FOUR) {
                         Label colorLabel = new Label("Current Color: " + game.getCurrentColor().toString());
-                        colorLabel.setTextFill(getJavaFXColor(game.getCurrentColor()));
-                        colorLabel.setStyle("-fx-font-weight: bold;");
+                        colorLabel.getStyleClass().add(StateStyles.COLOR_LABEL);
+                        StateStyles.setCardColor(colorLabel, game.getCurrentColor());
                         
                         VBox vbox = new VBox(5);
                         vbox.setAlignment(Pos.CENTER);
@@ -321,16 +802,12 @@ public class GameBoardController {
     
     private ImageView createCardImageView(Card card) {
         try {
-            String imageName = card.getImageFileName();
-            String imagePath = CARD_IMAGES_PATH + imageName;
-            
-            System.out.println("Loading card image: " + imagePath);
-            InputStream imageStream = getClass().getResourceAsStream(imagePath);
+            // Images are decoded once by the preloader and shared across all views
+            Image image = imageCache.get(card);
             
-            if (imageStream != null) {
-                return new ImageView(new Image(imageStream));
+            if (image != null) {
+                return new ImageView(image);
             } else {
-                System.err.println("Card image not found: " + imagePath);
                 return createCardPlaceholder(card);
             }
         } catch (Exception e) {
@@ -394,36 +871,6 @@ public class GameBoardController {
         }
     }
     
-    private void updateUnoIndicators() {
-        // Reset all UNO indicators
-        if (playerTurn != null) playerTurn.setFill(Color.DARKGREY);
-        if (cpu1Turn != null) cpu1Turn.setFill(Color.DARKGREY);
-        if (cpu2Turn != null) cpu2Turn.setFill(Color.DARKGREY);
-        if (cpu3Turn != null) cpu3Turn.setFill(Color.DARKGREY);
-        
-        // Check each player's hand size and update indicators
-        for (int i = 0; i < game.getPlayers().size(); i++) {
-            Player player = game.getPlayers().get(i);
-            if (player.getHand().size() == 1) {
-                // Player has UNO!
-                switch (i) {
-                    case 0:
-                        if (playerTurn != null) playerTurn.setFill(Color.RED);
-                        break;
-                    case 1:
-                        if (cpu1Turn != null) cpu1Turn.setFill(Color.RED);
-                        break;
-                    case 2:
-                        if (cpu2Turn != null) cpu2Turn.setFill(Color.RED);
-                        break;
-                    case 3:
-                        if (cpu3Turn != null) cpu3Turn.setFill(Color.RED);
-                        break;
-                }
-            }
-        }
-    }
-    
     private void handleCardClick(Card card, int cardIndex) {
         if (waitingForColorSelection) {
             showMessage("Please select a color first!");
@@ -491,6 +938,7 @@ public class GameBoardController {
                         game.getPlayers().get(0).addCard(drawnCard);
                     }
                 }
+                game.getMoveLog().draw(game.getCurrentPlayerIndex(), cardsToDraw);
                 
                 // Reset the counter and move to next player
                 game.resetDrawFourCounter();
@@ -511,6 +959,7 @@ public class GameBoardController {
                         game.getPlayers().get(0).addCard(drawnCard);
                     }
                 }
+                game.getMoveLog().draw(game.getCurrentPlayerIndex(), cardsToDraw);
                 
                 // Reset the counter and move to next player
                 game.resetDrawTwoCounter();
@@ -560,6 +1009,7 @@ public class GameBoardController {
             Player player = game.getPlayers().get(0);
             if (player.getHand().size() == 1) {
                 showMessage("You called UNO!");
+                soundEngine.play(SoundEngine.Sound.UNO);
                 // Update UI
                 updateGameUI();
             } else {
@@ -603,106 +1053,40 @@ public class GameBoardController {
         }
     }
     
+    // Plays one CPU turn on the model; the TurnScheduler decides when, and renders afterwards.
+    // The move itself is logged by Game when it is verbose, so nothing is printed here.
     private void playCPUTurn() {
-        System.out.println("CPU turn started. Current player index: " + game.getCurrentPlayerIndex());
-        
-        PauseTransition pause = new PauseTransition(Duration.seconds(1));
-        pause.setOnFinished(e -> {
-            if (!isHumanTurn() && !game.isGameOver()) {
-                System.out.println("CPU playing turn...");
-                System.out.println("CPU " + game.getPlayers().get(game.getCurrentPlayerIndex()).getName() + " is playing turn");
-                
-                // CPU takes its turn
-                boolean cpuPlayed = game.playCpuTurn();
-                System.out.println("CPU turn finished. Next player: " + game.getCurrentPlayerIndex());
-                System.out.println("CPU played: " + cpuPlayed + ", Current player after CPU: " + game.getCurrentPlayerIndex());
-                
-                // Update UI to reflect CPU's move
-                updateDiscardPile();
-                updateCPUHandPanes();
-                updatePlayerTurnIndicators();
-                
-                // Force a refresh of player's hand to update card fading
-                if (isHumanTurn()) {
-                    updatePlayerHand();
-                }
-                
-                // If it's still a CPU turn (but different CPU), schedule the next CPU turn
-                if (!isHumanTurn() && !game.isGameOver()) {
-                    PauseTransition nextCpuTurn = new PauseTransition(Duration.seconds(1));
-                    nextCpuTurn.setOnFinished(event -> playCPUTurn());
-                    nextCpuTurn.play();
-                }
-            }
-        });
-        
-        pause.play();
+        long started = perfHud != null ? perfHud.start() : 0;
+        game.playCpuTurn();
+        if (perfHud != null) {
+            perfHud.record(CPU_TURN_SECTION, started);
+        }
     }
     
-    // Helper method to update turn indicators
-    private void updatePlayerTurnIndicators() {
-        // Reset all turn indicators to dark gray
-        if (playerTurn != null) playerTurn.setFill(Color.DARKGREY);
-        if (cpu1Turn != null) cpu1Turn.setFill(Color.DARKGREY);
-        if (cpu2Turn != null) cpu2Turn.setFill(Color.DARKGREY);
-        if (cpu3Turn != null) cpu3Turn.setFill(Color.DARKGREY);
-        
-        // Set the turn indicator for current player to green
-        switch (game.getCurrentPlayerIndex()) {
-            case 0:
-                if (playerTurn != null) playerTurn.setFill(Color.GREEN);
-                break;
-            case 1:
-                if (cpu1Turn != null) cpu1Turn.setFill(Color.GREEN);
-                break;
-            case 2:
-                if (cpu2Turn != null) cpu2Turn.setFill(Color.GREEN);
-                break;
-            case 3:
-                if (cpu3Turn != null) cpu3Turn.setFill(Color.GREEN);
-                break;
-        }
-        
-        // Add visual indication of whose turn it is with label styling
-        String playerStyle = "-fx-font-weight: normal; -fx-text-fill: white;";
-        String activeStyle = "-fx-font-weight: bold; -fx-text-fill: yellow;";
-        
-        // Reset all styles first
-        if (playerLabel != null) playerLabel.setStyle(playerStyle);
-        if (cpu1Label != null) cpu1Label.setStyle(playerStyle);
-        if (cpu2Label != null) cpu2Label.setStyle(playerStyle);
-        if (cpu3Label != null) cpu3Label.setStyle(playerStyle);
-        
-        // Highlight the active player
-        switch (game.getCurrentPlayerIndex()) {
-            case 0:
-                if (playerLabel != null) playerLabel.setStyle(activeStyle);
-                break;
-            case 1:
-                if (cpu1Label != null) cpu1Label.setStyle(activeStyle); 
-                break;
-            case 2:
-                if (cpu2Label != null) cpu2Label.setStyle(activeStyle);
-                break;
-            case 3:
-                if (cpu3Label != null) cpu3Label.setStyle(activeStyle);
-                break;
-        }
-        
-        // Update current player label
-        if (currentPlayerLabel != null) {
-            Player currentPlayer = game.getPlayers().get(game.getCurrentPlayerIndex());
-            currentPlayerLabel.setText("Current Player: " + currentPlayer.getName());
-        }
-        
-        // Update direction indicator
-        if (directionLabel != null) {
-            directionLabel.setText("Direction: " + (game.isClockwise() ? "Clockwise" : "Counter-Clockwise"));
+    // Helper method to update turn and UNO indicators; the colors come from styles.css
+    private void updateSeatIndicators() {
+        List<Player> players = game.getPlayers();
+        int current = game.getCurrentPlayerIndex();
+        for (int i = 0; i < players.size(); i++) {
+            boolean active = i == current;
+            boolean uno = players.get(i).getHand().size() == 1;
+            if (i == 0) {
+                if (playerTurn != null) {
+                    StateStyles.setActiveSeat(playerTurn, active);
+                    StateStyles.setUno(playerTurn, uno);
+                }
+                if (playerLabel != null) StateStyles.setActiveSeat(playerLabel, active);
+            } else {
+                SeatView seat = opponentSeats.get(i - 1);
+                seat.setActive(active);
+                seat.setUno(uno);
+            }
         }
     }
     
     private boolean isHumanTurn() {
-        return game.getCurrentPlayerIndex() == 0;
+        // Nobody may act on a spectated game; game is only a snapshot then
+        return spectatorRunner == null && game.getCurrentPlayer().isHuman();
     }
     
     private void handleGameOver(Player winner) {
@@ -710,7 +1094,21 @@ public class GameBoardController {
                 "Congratulations! You won!" : 
                 winner.getName() + " has won the game!";
         
+        int session = gameSession;
         Platform.runLater(() -> {
+            // The user may already have left this game
+            if (session != gameSession) {
+                return;
+            }
+            
+            recordGameResult(winner);
+            
+            // A table of the multi-table view just reports the winner and stays open
+            if (tableMode) {
+                showMessage(message);
+                return;
+            }
+            
             // Show game over alert
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("Game Over");
@@ -718,14 +1116,22 @@ public class GameBoardController {
             alert.setContentText(message);
             alert.showAndWait();
             
-            // TODO: Record game result in the database
-            // This would need the ApiService to be injected
-            
             // Return to main menu
             sceneManager.showMainMenuScene();
         });
     }
     
+    // Queues the result of a game the logged-in user played; the outbox stores it and uploads it
+    // in the background, so nothing here waits for disk or network
+    private void recordGameResult(Player winner) {
+        User user = sceneManager.getCurrentUser();
+        if (spectatorRunner != null || user == null || user.getId() == null) {
+            return;
+        }
+        gameResultOutbox.enqueue(winner.isHuman() ? user.getId() : null, List.of(user.getId()),
+                game.getMoveLog().toCompressedBytes());
+    }
+    
     private void showMessage(String message) {
         if (gameStateLabel != null) {
             gameStateLabel.setText(message);
@@ -744,21 +1150,6 @@ public class GameBoardController {
         });
     }
     
-    private Color getJavaFXColor(Card.Color cardColor) {
-        switch (cardColor) {
-            case RED:
-                return Color.RED;
-            case BLUE:
-                return Color.BLUE;
-            case GREEN:
-                return Color.GREEN;
-            case YELLOW:
-                return Color.YELLOW;
-            default:
-                return Color.BLACK;
-        }
-    }
-    
     @FXML
     private void selectRedColor() {
         handleColorSelected(Card.Color.RED);
@@ -781,20 +1172,8 @@ public class GameBoardController {
     
     private void handleColorSelected(Card.Color color) {
         if (waitingForColorSelection && lastPlayedCard != null) {
-            game.setCurrentColor(color);
-            
-            // Update UI to show the selected color
-            if (currentColorLabel != null) {
-                currentColorLabel.setText("Current Color: " + color.toString());
-                String colorStyle = switch (color) {
-                    case RED -> "-fx-text-fill: #ff4136;";
-                    case BLUE -> "-fx-text-fill: #0074D9;";
-                    case GREEN -> "-fx-text-fill: #2ECC40;";
-                    case YELLOW -> "-fx-text-fill: #FFDC00;";
-                    default -> "-fx-text-fill: white;";
-                };
-                currentColorLabel.setStyle("-fx-font-weight: bold; " + colorStyle);
-            }
+            Player human = game.getPlayers().get(0);
+            Card wildCard = lastPlayedCard;
             
             // Hide the color selection pane
             if (colorSelectionPane != null) {
@@ -803,14 +1182,35 @@ public class GameBoardController {
             waitingForColorSelection = false;
             lastPlayedCard = null;
             
-            // Move to the next player's turn after color selection
-            game.moveToNextPlayer();
-            updateGameUI();
+            // The wild card is only played now, so the game logs it before the color chosen for it
+            if (!game.playCard(human.getHand().indexOf(wildCard))) {
+                showMessage("You can't play this card!");
+                updateGameUI();
+                return;
+            }
+            game.setCurrentColor(color);
+            game.getMoveLog().chooseColor(color);
+            
+            // Update UI to show the selected color
+            if (currentColorLabel != null) {
+                currentColorLabel.setText("Current Color: " + color.toString());
+                StateStyles.setCardColor(currentColorLabel, color);
+            }
+            
+            if (human.getHand().isEmpty()) {
+                handleGameOver(human);
+                return;
+            }
+            if (human.getHand().size() == 1 && !human.hasCalledUno()) {
+                showMessage("Don't forget to call UNO!");
+            }
             
-            // Check if it's now a CPU's turn
-            if (!isHumanTurn() && !game.isGameOver()) {
-                playCPUTurn();
+            // Move to the next player's turn after color selection; updateGameUI starts the CPU turns.
+            // Game has already done so for a Wild Draw Four.
+            if (wildCard.getType() == Card.Type.WILD) {
+                game.moveToNextPlayer();
             }
+            updateGameUI();
         }
     }
 }
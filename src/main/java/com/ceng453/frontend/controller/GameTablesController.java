@@ -0,0 +1,189 @@
+package com.ceng453.frontend.controller;
+
+import com.ceng453.frontend.ui.SceneLifecycle;
+import com.ceng453.frontend.ui.SceneManager;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.scene.Parent;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tab;
+import javafx.scene.control.TabPane;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.RowConstraints;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.stereotype.Controller;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Several single-player tables open at once, shown one per tab or all together as tiles.
+// Every table is its own game board (own Game, TurnScheduler and view); they only share the
+// Spring singletons such as the card image cache. Tables that are not on screen keep playing
+// but skip rendering, so a hidden table costs little more than its game logic.
+@Controller
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+public class GameTablesController implements SceneLifecycle {
+    // Beyond this the tiles get too small to follow
+    private static final int MAX_TABLES = 16;
+
+    private final SceneManager sceneManager;
+    private final List<Table> tables = new ArrayList<>();
+    // Only used for the tab titles, so closed tables don't get their numbers reused
+    private int tablesOpened;
+
+    // One open table: its tab, its view and the board controller that owns its game
+    private record Table(Tab tab, Parent view, GameBoardController board) {
+    }
+
+    @FXML private TabPane tableTabs;
+    @FXML private GridPane tableTiles;
+    @FXML private ToggleButton tileToggle;
+    @FXML private Label tableCountLabel;
+    @FXML private Button newTableButton;
+
+    public GameTablesController(SceneManager sceneManager) {
+        this.sceneManager = sceneManager;
+    }
+
+    @FXML
+    public void initialize() {
+        // Only the selected tab is rendered in tab mode
+        tableTabs.getSelectionModel().selectedItemProperty().addListener(
+                (observable, oldValue, newValue) -> updateBackgroundTables());
+    }
+
+    @Override
+    public void onShow() {
+        if (tables.isEmpty()) {
+            addTable();
+            return;
+        }
+        // The tables were stopped when the view was left; deal each of them a new game
+        updateBackgroundTables();
+        for (Table table : tables) {
+            table.board().onShow();
+        }
+    }
+
+    @Override
+    public void onHide() {
+        for (Table table : tables) {
+            table.board().onHide();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        for (Table table : tables) {
+            table.board().dispose();
+        }
+        tables.clear();
+        tableTabs.getTabs().clear();
+        tableTiles.getChildren().clear();
+    }
+
+    @FXML
+    public void handleNewTable(ActionEvent event) {
+        addTable();
+    }
+
+    @FXML
+    public void toggleTiles(ActionEvent event) {
+        layoutTables();
+    }
+
+    @FXML
+    public void returnToMainMenu() {
+        sceneManager.showMainMenuScene();
+    }
+
+    private void addTable() {
+        if (tables.size() >= MAX_TABLES) {
+            return;
+        }
+        SceneManager.LoadedView view = sceneManager.loadView(SceneManager.GAME_BOARD_FXML);
+        if (view == null || !(view.controller() instanceof GameBoardController board)) {
+            System.err.println("Error opening a new table: game board view could not be loaded");
+            return;
+        }
+
+        tablesOpened++;
+        Tab tab = new Tab("Table " + tablesOpened);
+        Table table = new Table(tab, view.root(), board);
+        tab.setOnClosed(event -> closeTable(table));
+        tables.add(table);
+
+        // Start in the background so the first frame is only drawn once the table has its place
+        board.setTableMode(true);
+        board.setBackground(true);
+        board.onShow();
+        tableTabs.getTabs().add(tab);
+        layoutTables();
+        tableTabs.getSelectionModel().select(tab);
+    }
+
+    private void closeTable(Table table) {
+        if (!tables.remove(table)) {
+            return;
+        }
+        table.board().dispose();
+        layoutTables();
+    }
+
+    // Puts every table view in its tab, or all of them in a near-square grid in tile mode
+    private void layoutTables() {
+        boolean tiles = tileToggle.isSelected();
+        tableTabs.setVisible(!tiles);
+        tableTabs.setManaged(!tiles);
+        tableTiles.setVisible(tiles);
+        tableTiles.setManaged(tiles);
+
+        tableTiles.getChildren().clear();
+        tableTiles.getColumnConstraints().clear();
+        tableTiles.getRowConstraints().clear();
+        for (Table table : tables) {
+            table.tab().setContent(tiles ? null : table.view());
+        }
+
+        if (tiles && !tables.isEmpty()) {
+            int columns = (int) Math.ceil(Math.sqrt(tables.size()));
+            int rows = (tables.size() + columns - 1) / columns;
+            for (int column = 0; column < columns; column++) {
+                ColumnConstraints constraints = new ColumnConstraints();
+                constraints.setPercentWidth(100.0 / columns);
+                tableTiles.getColumnConstraints().add(constraints);
+            }
+            for (int row = 0; row < rows; row++) {
+                RowConstraints constraints = new RowConstraints();
+                constraints.setPercentHeight(100.0 / rows);
+                tableTiles.getRowConstraints().add(constraints);
+            }
+            for (int i = 0; i < tables.size(); i++) {
+                tableTiles.add(tables.get(i).view(), i % columns, i / columns);
+            }
+        }
+
+        tileToggle.setText(tiles ? "Show as Tabs" : "Show as Tiles");
+        newTableButton.setDisable(tables.size() >= MAX_TABLES);
+        updateBackgroundTables();
+    }
+
+    // Tiles are all on screen; in tab mode only the selected table renders
+    private void updateBackgroundTables() {
+        boolean tiles = tileToggle.isSelected();
+        Tab selected = tableTabs.getSelectionModel().getSelectedItem();
+        int rendering = 0;
+        for (Table table : tables) {
+            boolean background = !tiles && table.tab() != selected;
+            table.board().setBackground(background);
+            if (!background) {
+                rendering++;
+            }
+        }
+        tableCountLabel.setText(tables.size() + (tables.size() == 1 ? " table, " : " tables, ") + rendering + " rendering");
+    }
+}
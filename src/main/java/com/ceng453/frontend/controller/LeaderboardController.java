@@ -1,52 +1,77 @@
 package com.ceng453.frontend.controller;
 
+import com.ceng453.frontend.model.LeaderboardDelta;
+import com.ceng453.frontend.model.LeaderboardEntry;
+import com.ceng453.frontend.model.LeaderboardIndex;
+import com.ceng453.frontend.model.User;
 import com.ceng453.frontend.service.ApiService;
+import com.ceng453.frontend.ui.SceneLifecycle;
 import com.ceng453.frontend.ui.SceneManager;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
-import javafx.scene.control.cell.PropertyValueFactory;
 import org.springframework.stereotype.Controller;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 
-import java.util.List;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Controller
-public class LeaderboardController {
+public class LeaderboardController implements SceneLifecycle {
 
     @FXML private TableView<LeaderboardEntry> leaderboardTable;
     @FXML private TableColumn<LeaderboardEntry, String> usernameColumn;
     @FXML private TableColumn<LeaderboardEntry, Integer> scoreColumn;
     @FXML private ComboBox<String> timeframeComboBox;
     @FXML private Button refreshButton;
+    @FXML private ToggleButton liveToggle;
+    @FXML private TextField searchField;
+    @FXML private Button findMeButton;
     @FXML private Button backButton;
     @FXML private Label statusLabel;
 
     private final ApiService apiService;
     private final SceneManager sceneManager;
 
-    // Inner class to represent leaderboard entries in the table
-    public static class LeaderboardEntry {
-        private final String username;
-        private final int score;
+    // In-flight leaderboard request, cancelled when the screen is left or another timeframe is picked
+    private Disposable leaderboardRequest;
+    // Bumped for every request, so pages of a cancelled one still queued for the FX thread are dropped
+    private int leaderboardGeneration;
+    private boolean loading;
 
-        public LeaderboardEntry(String username, int score) {
-            this.username = username;
-            this.score = score;
-        }
+    // The whole board in rank order, grown a page at a time; the table shows it or a search result.
+    // TableView only creates cells for the visible rows, however long the list gets.
+    private final ObservableList<LeaderboardEntry> boardRows = FXCollections.observableArrayList();
+    private LeaderboardIndex index = new LeaderboardIndex();
+    // Live patches move rows around; the index is rebuilt the next time a search or find-me needs it
+    private boolean indexStale;
 
-        public String getUsername() {
-            return username;
+    // Live mode: the newest delta of each player waits here and all of them are applied together,
+    // once per pulse, however fast they arrive. The pulse timer only runs while deltas are waiting.
+    // Every live session gets a new map: a delta its stream was still delivering on a Netty thread
+    // when it was stopped lands in the old map, which nothing reads any more.
+    private volatile Map<String, LeaderboardDelta> pendingDeltas = new ConcurrentHashMap<>();
+    private final AtomicBoolean pulseRequested = new AtomicBoolean();
+    // Current row of every player, so a delta finds its row without a scan; built when live mode starts
+    private final Map<String, LeaderboardEntry> rowsByUsername = new HashMap<>();
+    private Disposable liveUpdates;
+    private final AnimationTimer livePulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            // Cleared first: a delta arriving from here on asks for another pulse
+            pulseRequested.set(false);
+            applyPendingDeltas();
+            stop();
         }
-
-        public int getScore() {
-            return score;
-        }
-    }
+    };
 
     public LeaderboardController(ApiService apiService, SceneManager sceneManager) {
         this.apiService = apiService;
@@ -55,9 +80,9 @@ public class LeaderboardController {
 
     @FXML
     public void initialize() {
-        // Set up the table columns
-        usernameColumn.setCellValueFactory(new PropertyValueFactory<>("username"));
-        scoreColumn.setCellValueFactory(new PropertyValueFactory<>("score"));
+        // Set up the table columns; plain accessor calls, no reflective property lookup per cell
+        usernameColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().username()));
+        scoreColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().score()));
 
         // Set up the timeframe combo box
         ObservableList<String> timeframes = FXCollections.observableArrayList(
@@ -68,57 +93,246 @@ public class LeaderboardController {
 
         // Add listener to load leaderboard when timeframe changes
         timeframeComboBox.getSelectionModel().selectedItemProperty().addListener(
-                (observable, oldValue, newValue) -> loadLeaderboard());
+                (observable, oldValue, newValue) -> loadLeaderboard(false));
 
-        // Load the initial leaderboard (weekly)
-        loadLeaderboard();
+        leaderboardTable.setItems(boardRows);
+        searchField.textProperty().addListener((observable, oldValue, newValue) -> applySearch());
     }
 
-    private void loadLeaderboard() {
-        String selectedTimeframe = timeframeComboBox.getSelectionModel().getSelectedItem();
+    @Override
+    public void onShow() {
+        // Show the selected leaderboard every time the screen is opened; cached rows are reused within their TTL
+        loadLeaderboard(false);
+    }
+
+    @Override
+    public void onHide() {
+        cancelLeaderboardRequest();
+        stopLiveUpdates();
+    }
+
+    private void cancelLeaderboardRequest() {
+        if (leaderboardRequest != null) {
+            leaderboardRequest.dispose();
+            leaderboardRequest = null;
+        }
+    }
+
+    // Cached rows show up at once, even past their TTL while newer ones load; forceRefresh also asks
+    // the backend whether they are still current
+    private void loadLeaderboard(boolean forceRefresh) {
         statusLabel.setText("Loading leaderboard...");
-        
-        switch (selectedTimeframe) {
-            case "Weekly":
-                fetchLeaderboard(apiService.getWeeklyLeaderboard());
-                break;
+        // Live mode resumes once the new rows are in
+        stopLiveUpdates();
+        fetchLeaderboard(apiService.getLeaderboardPages(selectedLeaderboard(), forceRefresh));
+    }
+
+    private ApiService.Leaderboard selectedLeaderboard() {
+        switch (timeframeComboBox.getSelectionModel().getSelectedItem()) {
             case "Monthly":
-                fetchLeaderboard(apiService.getMonthlyLeaderboard());
-                break;
+                return ApiService.Leaderboard.MONTHLY;
             case "All Time":
-                fetchLeaderboard(apiService.getAllTimeLeaderboard());
-                break;
+                return ApiService.Leaderboard.ALL_TIME;
+            default:
+                return ApiService.Leaderboard.WEEKLY;
         }
     }
 
-    private void fetchLeaderboard(reactor.core.publisher.Mono<List<Map<String, Object>>> leaderboardMono) {
-        leaderboardMono.subscribe(entries -> {
+    // Page 0 (the cached board, or the first page of a newer one) replaces whatever was shown, the
+    // following pages are appended (and indexed) as they arrive. While there is no page yet, the
+    // previous rows stay on screen.
+    private void fetchLeaderboard(Flux<ApiService.LeaderboardPage> pages) {
+        cancelLeaderboardRequest();
+        int generation = ++leaderboardGeneration;
+        boolean[] firstPage = {true};
+        loading = true;
+        leaderboardRequest = pages.subscribe(page -> {
             Platform.runLater(() -> {
-                if (entries == null || entries.isEmpty()) {
-                    statusLabel.setText("No data available for this timeframe");
-                    leaderboardTable.setItems(FXCollections.observableArrayList());
-                } else {
-                    // Convert Map entries to LeaderboardEntry objects
-                    List<LeaderboardEntry> leaderboardEntries = entries.stream()
-                            .map(entry -> new LeaderboardEntry(
-                                    (String) entry.get("username"),
-                                    ((Number) entry.get("score")).intValue()))
-                            .collect(Collectors.toList());
-
-                    leaderboardTable.setItems(FXCollections.observableArrayList(leaderboardEntries));
-                    statusLabel.setText("");
+                if (generation != leaderboardGeneration) {
+                    return;
+                }
+                if (page.number() == 0) {
+                    firstPage[0] = false;
+                    index = new LeaderboardIndex();
+                    indexStale = false;
+                    boardRows.clear();
+                }
+                index.addAll(page.rows());
+                boardRows.addAll(page.rows());
+                if (!searchField.getText().isBlank()) {
+                    applySearch();
                 }
+                statusLabel.setText("Loading leaderboard... " + index.size() + " players");
             });
         }, error -> {
             Platform.runLater(() -> {
-                statusLabel.setText("Error loading leaderboard: " + error.getMessage());
+                if (generation == leaderboardGeneration) {
+                    loading = false;
+                    statusLabel.setText("Error loading leaderboard: " + error.getMessage());
+                }
+            });
+        }, () -> {
+            Platform.runLater(() -> {
+                if (generation != leaderboardGeneration) {
+                    return;
+                }
+                loading = false;
+                if (firstPage[0]) {
+                    index = new LeaderboardIndex();
+                    indexStale = false;
+                    boardRows.clear();
+                }
+                if (boardRows.isEmpty()) {
+                    statusLabel.setText("No data available for this timeframe");
+                } else {
+                    statusLabel.setText("");
+                }
+                if (liveToggle.isSelected()) {
+                    startLiveUpdates();
+                }
             });
         });
     }
 
+    // Search results are a snapshot: live patches show up in them when the search text changes
+    private void applySearch() {
+        String prefix = searchField.getText().trim();
+        if (prefix.isEmpty()) {
+            leaderboardTable.setItems(boardRows);
+        } else {
+            leaderboardTable.setItems(FXCollections.observableArrayList(currentIndex().search(prefix)));
+        }
+    }
+
+    private LeaderboardIndex currentIndex() {
+        if (indexStale) {
+            index = new LeaderboardIndex();
+            index.addAll(boardRows);
+            indexStale = false;
+        }
+        return index;
+    }
+
+    @FXML
+    public void handleLiveToggle(ActionEvent event) {
+        if (!liveToggle.isSelected()) {
+            stopLiveUpdates();
+        } else if (!loading) {
+            startLiveUpdates();
+        }
+    }
+
+    private void startLiveUpdates() {
+        stopLiveUpdates();
+        rowsByUsername.clear();
+        for (LeaderboardEntry row : boardRows) {
+            rowsByUsername.put(row.username(), row);
+        }
+        Map<String, LeaderboardDelta> sessionDeltas = new ConcurrentHashMap<>();
+        pendingDeltas = sessionDeltas;
+        liveUpdates = apiService.streamLeaderboardDeltas(selectedLeaderboard())
+                .subscribe(delta -> {
+                            sessionDeltas.put(delta.username(), delta);
+                            if (pulseRequested.compareAndSet(false, true)) {
+                                Platform.runLater(livePulse::start);
+                            }
+                        },
+                        error -> System.err.println("Live leaderboard updates stopped: " + error.getMessage()));
+    }
+
+    private void stopLiveUpdates() {
+        if (liveUpdates != null) {
+            liveUpdates.dispose();
+            liveUpdates = null;
+        }
+        livePulse.stop();
+        pulseRequested.set(false);
+        pendingDeltas = new ConcurrentHashMap<>();
+        rowsByUsername.clear();
+    }
+
+    private void applyPendingDeltas() {
+        Map<String, LeaderboardDelta> deltas = pendingDeltas;
+        if (deltas.isEmpty()) {
+            return;
+        }
+        for (String username : deltas.keySet()) {
+            LeaderboardDelta delta = deltas.remove(username);
+            if (delta != null) {
+                patchRow(delta);
+            }
+        }
+        indexStale = true;
+    }
+
+    // Moves the player's row to where their new score puts it; ties keep the players already there ahead
+    private void patchRow(LeaderboardDelta delta) {
+        LeaderboardEntry old = rowsByUsername.get(delta.username());
+        if (old != null) {
+            if (old.score() == delta.score()) {
+                return;
+            }
+            int position = positionOf(old);
+            // -1 if the row has left the board some other way; the player is then simply added
+            if (position >= 0) {
+                boardRows.remove(position);
+            }
+        }
+        LeaderboardEntry updated = new LeaderboardEntry(delta.username(), delta.score());
+        boardRows.add(firstRowScoredBelow(delta.score()), updated);
+        rowsByUsername.put(delta.username(), updated);
+    }
+
+    private int positionOf(LeaderboardEntry row) {
+        for (int i = firstRowScoredBelow(row.score() + 1); i < boardRows.size(); i++) {
+            if (boardRows.get(i) == row) {
+                return i;
+            }
+            if (boardRows.get(i).score() != row.score()) {
+                break;
+            }
+        }
+        // Only if the backend's rows weren't sorted by score
+        return boardRows.indexOf(row);
+    }
+
+    // Binary search over the rows, which are sorted by score, highest first
+    private int firstRowScoredBelow(int score) {
+        int low = 0;
+        int high = boardRows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (boardRows.get(mid).score() >= score) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @FXML
+    public void handleFindMe(ActionEvent event) {
+        User user = sceneManager.getCurrentUser();
+        if (user == null) {
+            statusLabel.setText("Log in to find your rank");
+            return;
+        }
+        int rank = currentIndex().findRank(user.getUsername());
+        if (rank < 0) {
+            statusLabel.setText(loading ? "You are not in the players loaded so far" : "You are not on this leaderboard yet");
+            return;
+        }
+        searchField.clear();
+        leaderboardTable.getSelectionModel().clearAndSelect(rank);
+        // A few rows of context above the player's own
+        leaderboardTable.scrollTo(Math.max(0, rank - 3));
+        statusLabel.setText("You are ranked #" + (rank + 1) + " of " + boardRows.size());
+    }
+
     @FXML
     public void handleRefresh(ActionEvent event) {
-        loadLeaderboard();
+        loadLeaderboard(true);
     }
 
     @FXML
@@ -2,7 +2,9 @@ package com.ceng453.frontend.controller;
 
 import com.ceng453.frontend.model.User;
 import com.ceng453.frontend.service.ApiService;
+import com.ceng453.frontend.ui.SceneLifecycle;
 import com.ceng453.frontend.ui.SceneManager;
+import com.ceng453.frontend.ui.SessionWarmUp;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -13,7 +15,7 @@ import javafx.scene.control.TextField;
 import org.springframework.stereotype.Controller;
 
 @Controller
-public class LoginController {
+public class LoginController implements SceneLifecycle {
     
     @FXML private TextField usernameField;
     @FXML private PasswordField passwordField;
@@ -24,10 +26,12 @@ public class LoginController {
     
     private final ApiService apiService;
     private final SceneManager sceneManager;
+    private final SessionWarmUp sessionWarmUp;
     
-    public LoginController(ApiService apiService, SceneManager sceneManager) {
+    public LoginController(ApiService apiService, SceneManager sceneManager, SessionWarmUp sessionWarmUp) {
         this.apiService = apiService;
         this.sceneManager = sceneManager;
+        this.sessionWarmUp = sessionWarmUp;
     }
     
     @FXML
@@ -39,6 +43,14 @@ public class LoginController {
         passwordField.setOnAction(event -> loginButton.fire());
     }
     
+    @Override
+    public void onShow() {
+        // Keep the username for convenience but never leave a password behind
+        passwordField.clear();
+        statusLabel.setText("");
+        loginButton.setDisable(false);
+    }
+    
     @FXML
     public void handleLogin(ActionEvent event) {
         String username = usernameField.getText().trim();
@@ -68,6 +80,9 @@ public class LoginController {
                         // Set user in scene manager
                         sceneManager.setCurrentUser(user);
                         
+                        // Fetch and build what the next screens need while the user looks at the menu
+                        sessionWarmUp.start();
+                        
                         // Navigate to main menu
                         sceneManager.showMainMenuScene();
                     }
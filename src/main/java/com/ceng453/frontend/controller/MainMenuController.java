@@ -1,6 +1,8 @@
 package com.ceng453.frontend.controller;
 
+import com.ceng453.frontend.ui.SceneLifecycle;
 import com.ceng453.frontend.ui.SceneManager;
+import com.ceng453.frontend.ui.SessionWarmUp;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
@@ -9,22 +11,30 @@ import javafx.scene.control.Alert;
 import org.springframework.stereotype.Controller;
 
 @Controller
-public class MainMenuController {
+public class MainMenuController implements SceneLifecycle {
     
     @FXML private Label welcomeLabel;
     @FXML private Button singlePlayerButton;
+    @FXML private Button gameTablesButton;
     @FXML private Button multiplayerButton;
     @FXML private Button leaderboardButton;
     @FXML private Button logoutButton;
     
     private final SceneManager sceneManager;
+    private final SessionWarmUp sessionWarmUp;
     
-    public MainMenuController(SceneManager sceneManager) {
+    public MainMenuController(SceneManager sceneManager, SessionWarmUp sessionWarmUp) {
         this.sceneManager = sceneManager;
+        this.sessionWarmUp = sessionWarmUp;
     }
     
     @FXML
     public void initialize() {
+        // The welcome text depends on the logged in user, so it is set in onShow()
+    }
+    
+    @Override
+    public void onShow() {
         if (sceneManager.getCurrentUser() != null) {
             welcomeLabel.setText("Welcome, " + sceneManager.getCurrentUser().getUsername() + "!");
         } else {
@@ -38,6 +48,12 @@ public class MainMenuController {
         sceneManager.showSinglePlayerGameScene();
     }
     
+    @FXML
+    public void handleGameTables(ActionEvent event) {
+        // Several single-player tables side by side
+        sceneManager.showGameTablesScene();
+    }
+    
     @FXML
     public void handleMultiplayer(ActionEvent event) {
         sceneManager.showMultiplayerLobbyScene();
@@ -50,10 +66,14 @@ public class MainMenuController {
     
     @FXML
     public void handleLogout(ActionEvent event) {
-        // Clear the current user
+        // Stop warming up this session's screens, then clear the current user
+        sessionWarmUp.cancel();
         sceneManager.setCurrentUser(null);
         
         // Navigate back to login screen
         sceneManager.showLoginScene();
+        
+        // Release the scenes built for this session; the ones the login screen leads to are built afresh
+        sceneManager.clearSceneCache();
     }
 }
@@ -1,17 +1,20 @@
 package com.ceng453.frontend.controller;
 
 import com.ceng453.frontend.service.ApiService;
+import com.ceng453.frontend.ui.SceneLifecycle;
 import com.ceng453.frontend.ui.SceneManager;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
+import javafx.util.Duration;
 import org.springframework.stereotype.Controller;
 
 @Controller
-public class PasswordResetController {
+public class PasswordResetController implements SceneLifecycle {
 
     @FXML private TextField emailField;
     @FXML private Label statusLabel;
@@ -21,6 +24,8 @@ public class PasswordResetController {
     private final ApiService apiService;
     private final SceneManager sceneManager;
 
+    private final PauseTransition returnToLoginDelay = new PauseTransition(Duration.seconds(3));
+
     public PasswordResetController(ApiService apiService, SceneManager sceneManager) {
         this.apiService = apiService;
         this.sceneManager = sceneManager;
@@ -28,6 +33,8 @@ public class PasswordResetController {
 
     @FXML
     public void initialize() {
+        returnToLoginDelay.setOnFinished(event -> sceneManager.showLoginScene());
+
         // Clear any status messages
         statusLabel.setText("");
         
@@ -35,6 +42,13 @@ public class PasswordResetController {
         emailField.setOnAction(event -> resetButton.fire());
     }
 
+    @Override
+    public void onShow() {
+        emailField.clear();
+        statusLabel.setText("");
+        resetButton.setDisable(false);
+    }
+
     @FXML
     public void handleResetPassword(ActionEvent event) {
         String email = emailField.getText().trim();
@@ -64,15 +78,8 @@ public class PasswordResetController {
                     } else {
                         statusLabel.setText("Password reset email sent! Check your inbox for instructions.");
                         
-                        // After a short delay, navigate back to login
-                        new Thread(() -> {
-                            try {
-                                Thread.sleep(3000);
-                                Platform.runLater(() -> sceneManager.showLoginScene());
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                        }).start();
+                        // After a short delay, navigate back to login (cancelled if the user leaves first)
+                        returnToLoginDelay.playFromStart();
                     }
                 });
             }, error -> {
@@ -83,6 +90,11 @@ public class PasswordResetController {
             });
     }
 
+    @Override
+    public void onHide() {
+        returnToLoginDelay.stop();
+    }
+
     @FXML
     public void handleBack(ActionEvent event) {
         sceneManager.showLoginScene();
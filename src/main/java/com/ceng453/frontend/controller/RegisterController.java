@@ -1,7 +1,9 @@
 package com.ceng453.frontend.controller;
 
 import com.ceng453.frontend.service.ApiService;
+import com.ceng453.frontend.ui.SceneLifecycle;
 import com.ceng453.frontend.ui.SceneManager;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -9,10 +11,11 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
+import javafx.util.Duration;
 import org.springframework.stereotype.Controller;
 
 @Controller
-public class RegisterController {
+public class RegisterController implements SceneLifecycle {
 
     @FXML private TextField usernameField;
     @FXML private TextField emailField;
@@ -25,6 +28,8 @@ public class RegisterController {
     private final ApiService apiService;
     private final SceneManager sceneManager;
 
+    private final PauseTransition returnToLoginDelay = new PauseTransition(Duration.seconds(2));
+
     public RegisterController(ApiService apiService, SceneManager sceneManager) {
         this.apiService = apiService;
         this.sceneManager = sceneManager;
@@ -32,6 +37,8 @@ public class RegisterController {
 
     @FXML
     public void initialize() {
+        returnToLoginDelay.setOnFinished(event -> sceneManager.showLoginScene());
+
         // Clear any status messages
         statusLabel.setText("");
 
@@ -39,6 +46,16 @@ public class RegisterController {
         confirmPasswordField.setOnAction(event -> registerButton.fire());
     }
 
+    @Override
+    public void onShow() {
+        usernameField.clear();
+        emailField.clear();
+        passwordField.clear();
+        confirmPasswordField.clear();
+        statusLabel.setText("");
+        registerButton.setDisable(false);
+    }
+
     @FXML
     public void handleRegister(ActionEvent event) {
         String username = usernameField.getText().trim();
@@ -77,15 +94,8 @@ public class RegisterController {
                     } else {
                         statusLabel.setText("Registration successful! You can now login.");
                         
-                        // After a short delay, navigate back to login
-                        new Thread(() -> {
-                            try {
-                                Thread.sleep(2000);
-                                Platform.runLater(() -> sceneManager.showLoginScene());
-                            } catch (InterruptedException e) {
-                                e.printStackTrace();
-                            }
-                        }).start();
+                        // After a short delay, navigate back to login (cancelled if the user leaves first)
+                        returnToLoginDelay.playFromStart();
                     }
                 });
             }, error -> {
@@ -96,6 +106,11 @@ public class RegisterController {
             });
     }
 
+    @Override
+    public void onHide() {
+        returnToLoginDelay.stop();
+    }
+
     @FXML
     public void handleBack(ActionEvent event) {
         sceneManager.showLoginScene();
@@ -5,11 +5,27 @@ import java.util.Collections;
 import java.util.List;
 
 public class Deck {
+    public static final int CARDS_PER_DECK = 108;
+    // Tables with more players than this per deck play from a shoe of several decks
+    private static final int PLAYERS_PER_DECK = 5;
+    
     private List<Card> cards;
     
     public Deck() {
-        cards = new ArrayList<>();
-        initializeDeck();
+        this(1);
+    }
+    
+    // A shoe of several standard decks shuffled together
+    public Deck(int deckCount) {
+        cards = new ArrayList<>(deckCount * CARDS_PER_DECK);
+        for (int i = 0; i < deckCount; i++) {
+            initializeDeck();
+        }
+    }
+    
+    // Copy with its own card list, for game snapshots
+    Deck(Deck source) {
+        cards = new ArrayList<>(source.cards);
     }
     
     // Initialize a standard UNO deck
@@ -40,6 +56,11 @@ public class Deck {
         }
     }
     
+    // Number of decks needed so a table of this size doesn't drain the draw pile
+    public static int decksForPlayers(int playerCount) {
+        return Math.max(1, (playerCount + PLAYERS_PER_DECK - 1) / PLAYERS_PER_DECK);
+    }
+    
     public void shuffle() {
         Collections.shuffle(cards);
     }
@@ -48,7 +69,8 @@ public class Deck {
         if (cards.isEmpty()) {
             return null;
         }
-        return cards.remove(0);
+        // Draw from the end of the shuffled list; removing from the front shifts the whole shoe
+        return cards.remove(cards.size() - 1);
     }
     
     public void addCard(Card card) {
@@ -15,6 +15,9 @@ public class Game {
     private int drawFourCounter;
     private boolean isGameOver;
     private boolean isChallengeActive; // For Wild Draw Four challenge in multiplayer
+    private boolean verbose = true; // Console logging of every move; off for fast simulations
+    // Every move of this game, attached to its recorded result
+    private final MoveLog moveLog;
     
     public Game() {
         this.players = new ArrayList<>();
@@ -26,43 +29,59 @@ public class Game {
         this.drawFourCounter = 0;
         this.isGameOver = false;
         this.isChallengeActive = false;
+        this.moveLog = new MoveLog();
         
         // Shuffle the deck
         deck.shuffle();
     }
     
+    // Copy of another game's table, used as a read-only snapshot
+    private Game(Game source) {
+        this.players = new ArrayList<>();
+        for (Player player : source.players) {
+            this.players.add(new Player(player));
+        }
+        this.deck = new Deck(source.deck);
+        this.discardPile = new ArrayList<>(source.discardPile);
+        this.currentColor = source.currentColor;
+        this.currentPlayerIndex = source.currentPlayerIndex;
+        this.isClockwise = source.isClockwise;
+        this.drawTwoCounter = source.drawTwoCounter;
+        this.drawFourCounter = source.drawFourCounter;
+        this.isGameOver = source.isGameOver;
+        this.isChallengeActive = source.isChallengeActive;
+        this.verbose = false;
+        // Snapshots are only rendered, never recorded
+        this.moveLog = new MoveLog();
+    }
+    
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 10;
+    
     // Initialize a single player game with one human and three CPU players
     public void initializeSinglePlayerGame(String playerName) {
+        initializeSinglePlayerGame(playerName, 3);
+    }
+    
+    // Initialize a single player game with one human and the given number of CPU players
+    public void initializeSinglePlayerGame(String playerName, int cpuCount) {
+        checkPlayerCount(cpuCount + 1);
         players.clear();
         
         // Add human player
         players.add(new Player(playerName, true));
         
-        // Add three CPU players
-        players.add(new Player("CPU 1", false));
-        players.add(new Player("CPU 2", false));
-        players.add(new Player("CPU 3", false));
-        
-        // Deal 7 cards to each player
-        for (Player player : players) {
-            for (int i = 0; i < 7; i++) {
-                player.addCard(deck.drawCard());
-            }
+        // Add the CPU players
+        for (int i = 1; i <= cpuCount; i++) {
+            players.add(new Player("CPU " + i, false));
         }
         
-        // Draw first card to start the game
-        Card initialCard = deck.drawInitialCard();
-        discardPile.add(initialCard);
-        currentColor = initialCard.getColor();
-        
-        // Apply effect of initial card if it's an action card
-        if (initialCard.getType() != Card.Type.NUMBER) {
-            handleActionCard(initialCard);
-        }
+        dealAndStart();
     }
     
     // Initialize a multiplayer game
     public void initializeMultiplayerGame(List<String> playerNames) {
+        checkPlayerCount(playerNames.size());
         players.clear();
         
         // Add all players (all human in multiplayer)
@@ -70,6 +89,37 @@ public class Game {
             players.add(new Player(name, true));
         }
         
+        dealAndStart();
+    }
+    
+    // Initialize a game with only CPU players and no human, for spectating
+    public void initializeSpectatorGame(int playerCount) {
+        checkPlayerCount(playerCount);
+        players.clear();
+        
+        for (int i = 1; i <= playerCount; i++) {
+            players.add(new Player("CPU " + i, false));
+        }
+        
+        dealAndStart();
+    }
+    
+    private static void checkPlayerCount(int playerCount) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("A game needs " + MIN_PLAYERS + " to " + MAX_PLAYERS
+                    + " players, got " + playerCount);
+        }
+    }
+    
+    // Deals the hands and turns up the first card
+    private void dealAndStart() {
+        // Large tables play from a shoe of several decks so the hands don't drain the draw pile
+        int deckCount = Deck.decksForPlayers(players.size());
+        if (deckCount > 1) {
+            deck = new Deck(deckCount);
+            deck.shuffle();
+        }
+        
         // Deal 7 cards to each player
         for (Player player : players) {
             for (int i = 0; i < 7; i++) {
@@ -81,6 +131,7 @@ public class Game {
         Card initialCard = deck.drawInitialCard();
         discardPile.add(initialCard);
         currentColor = initialCard.getColor();
+        moveLog.start(players.size(), initialCard);
         
         // Apply effect of initial card if it's an action card
         if (initialCard.getType() != Card.Type.NUMBER) {
@@ -105,11 +156,12 @@ public class Game {
             if (card.getType() == Card.Type.WILD_DRAW_FOUR) {
                 currentPlayer.playCard(cardIndex);
                 discardPile.add(card);
+                moveLog.play(currentPlayerIndex, card);
                 drawFourCounter += 4;
                 moveToNextPlayer();
                 return true;
             } else {
-                System.out.println("Cannot play " + card + " when there's a Draw Four stack. Must play a Wild Draw Four or draw cards.");
+                log("Cannot play " + card + " when there's a Draw Four stack. Must play a Wild Draw Four or draw cards.");
                 return false;
             }
         }
@@ -120,39 +172,26 @@ public class Game {
             if (card.getType() == Card.Type.DRAW_TWO) {
                 currentPlayer.playCard(cardIndex);
                 discardPile.add(card);
+                moveLog.play(currentPlayerIndex, card);
                 drawTwoCounter += 2;
                 moveToNextPlayer();
                 return true;
             } else {
-                System.out.println("Cannot play " + card + " when there's a Draw Two stack. Must play a Draw Two or draw cards.");
+                log("Cannot play " + card + " when there's a Draw Two stack. Must play a Draw Two or draw cards.");
                 return false;
             }
         }
         
-        // Regular card play logic
-        boolean canPlay = false;
-        
-        // If the top card is a wild card, match by current color
-        if (topCard.getType() == Card.Type.WILD || topCard.getType() == Card.Type.WILD_DRAW_FOUR) {
-            // For wild cards, we need to check if the card matches the current color
-            if (card.getColor() == currentColor || card.getColor() == Card.Color.WILD) {
-                canPlay = true;
-            }
-        } else {
-            // Regular card playability check
-            canPlay = card.canBePlayedOn(topCard);
-        }
-        
         // If the card can't be played, return false
-        if (!canPlay) {
-            System.out.println("Cannot play " + card + " on " + topCard + ". Current color: " + currentColor);
+        if (!matchesTable(card, topCard)) {
+            log("Cannot play " + card + " on " + topCard + ". Current color: " + currentColor);
             return false;
         }
         
         // Special rule for Wild Draw Four - can only be played if no other valid card
         if (card.getType() == Card.Type.WILD_DRAW_FOUR) {
             if (hasValidCardOtherThanWildDrawFour(currentPlayer, topCard)) {
-                System.out.println("Cannot play Wild Draw Four when you have other valid cards to play.");
+                log("Cannot play Wild Draw Four when you have other valid cards to play.");
                 return false;
             }
         }
@@ -160,6 +199,7 @@ public class Game {
         // Play the card
         currentPlayer.playCard(cardIndex);
         discardPile.add(card);
+        moveLog.play(currentPlayerIndex, card);
         
         // Update current color for non-wild cards
         if (card.getColor() != Card.Color.WILD) {
@@ -178,10 +218,18 @@ public class Game {
         return true;
     }
     
+    // Regular card play logic: on a wild card the chosen color has to be matched instead
+    private boolean matchesTable(Card card, Card topCard) {
+        if (topCard.getType() == Card.Type.WILD || topCard.getType() == Card.Type.WILD_DRAW_FOUR) {
+            return card.getColor() == currentColor || card.getColor() == Card.Color.WILD;
+        }
+        return card.canBePlayedOn(topCard);
+    }
+    
     // Check if player has a valid card other than Wild Draw Four
     private boolean hasValidCardOtherThanWildDrawFour(Player player, Card topCard) {
         for (Card card : player.getHand()) {
-            if (card.getType() != Card.Type.WILD_DRAW_FOUR && card.canBePlayedOn(topCard)) {
+            if (card.getType() != Card.Type.WILD_DRAW_FOUR && matchesTable(card, topCard)) {
                 return true;
             }
         }
@@ -233,6 +281,7 @@ public class Game {
     // Method to choose color for wild cards
     public void chooseWildColor(Card.Color color) {
         currentColor = color;
+        moveLog.chooseColor(color);
         moveToNextPlayer();
     }
     
@@ -259,10 +308,10 @@ public class Game {
             } else if (hasDrawTwo && currentPlayer.isHuman()) {
                 // Human player has Draw Two card - decision to stack is made through the UI
                 // We do nothing here, they will either play the card or draw manually
-                System.out.println("Human player has Draw Two and can choose to stack it or draw " + drawTwoCounter + " cards.");
+                log("Human player has Draw Two and can choose to stack it or draw " + drawTwoCounter + " cards.");
             } else {
                 // Player must draw cards and skip turn
-                System.out.println("Player " + currentPlayer.getName() + " must draw " + drawTwoCounter + " cards!");
+                log("Player " + currentPlayer.getName() + " must draw " + drawTwoCounter + " cards!");
                 for (int i = 0; i < drawTwoCounter; i++) {
                     Card drawnCard = deck.drawCard();
                     if (drawnCard == null) {
@@ -271,6 +320,7 @@ public class Game {
                     }
                     currentPlayer.addCard(drawnCard);
                 }
+                moveLog.draw(currentPlayerIndex, drawTwoCounter);
                 drawTwoCounter = 0; // Reset counter
                 moveToNextPlayer(); // Skip turn
             }
@@ -300,10 +350,10 @@ public class Game {
             } else if (hasDrawFour && currentPlayer.isHuman()) {
                 // Human player has Wild Draw Four card - decision to stack is made through the UI
                 // We do nothing here, they will either play the card or draw manually
-                System.out.println("Human player has Wild Draw Four and can choose to stack it or draw " + drawFourCounter + " cards.");
+                log("Human player has Wild Draw Four and can choose to stack it or draw " + drawFourCounter + " cards.");
             } else {
                 // Player must draw cards and skip turn
-                System.out.println("Player " + currentPlayer.getName() + " must draw " + drawFourCounter + " cards!");
+                log("Player " + currentPlayer.getName() + " must draw " + drawFourCounter + " cards!");
                 for (int i = 0; i < drawFourCounter; i++) {
                     Card drawnCard = deck.drawCard();
                     if (drawnCard == null) {
@@ -312,6 +362,7 @@ public class Game {
                     }
                     currentPlayer.addCard(drawnCard);
                 }
+                moveLog.draw(currentPlayerIndex, drawFourCounter);
                 drawFourCounter = 0; // Reset counter - IMPORTANT: this clears the stack so next player can play color
                 moveToNextPlayer(); // Skip turn
             }
@@ -333,11 +384,13 @@ public class Game {
                     for (int i = 0; i < 4; i++) {
                         previousPlayer.addCard(deck.drawCard());
                     }
+                    moveLog.draw(players.indexOf(previousPlayer), 4);
                 } else {
                     // Challenge failed - current player draws 6 cards
                     for (int i = 0; i < 6; i++) {
                         currentPlayer.addCard(deck.drawCard());
                     }
+                    moveLog.draw(currentPlayerIndex, 6);
                     moveToNextPlayer(); // Skip turn
                 }
             } else {
@@ -357,10 +410,11 @@ public class Game {
         
         // Check if there are stacked Draw Four cards
         if (drawFourCounter > 0) {
-            System.out.println("Player " + currentPlayer.getName() + " must draw " + drawFourCounter + " cards!");
+            log("Player " + currentPlayer.getName() + " must draw " + drawFourCounter + " cards!");
             for (int i = 0; i < drawFourCounter; i++) {
                 currentPlayer.addCard(deck.drawCard());
             }
+            moveLog.draw(currentPlayerIndex, drawFourCounter);
             drawFourCounter = 0; // Reset counter
             moveToNextPlayer();
             return null;
@@ -368,10 +422,11 @@ public class Game {
         
         // Check if there are stacked Draw Two cards
         if (drawTwoCounter > 0) {
-            System.out.println("Player " + currentPlayer.getName() + " must draw " + drawTwoCounter + " cards!");
+            log("Player " + currentPlayer.getName() + " must draw " + drawTwoCounter + " cards!");
             for (int i = 0; i < drawTwoCounter; i++) {
                 currentPlayer.addCard(deck.drawCard());
             }
+            moveLog.draw(currentPlayerIndex, drawTwoCounter);
             drawTwoCounter = 0; // Reset counter
             moveToNextPlayer();
             return null;
@@ -387,6 +442,7 @@ public class Game {
         }
         
         currentPlayer.addCard(card);
+        moveLog.draw(currentPlayerIndex, 1);
         
         // Check if drawn card can be played
         Card topCard = getTopCard();
@@ -402,8 +458,7 @@ public class Game {
     private void reshuffleDeck() {
         if (discardPile.size() > 1) { // Keep at least the top card
             Card topCard = discardPile.remove(discardPile.size() - 1);
-            deck = new Deck();
-            deck.getCards().clear();
+            deck = new Deck(0);
             for (Card c : discardPile) {
                 deck.addCard(c);
             }
@@ -455,8 +510,8 @@ public class Game {
         boolean playedSuccessfully = false;
         
         // Make sure it's a CPU player's turn
-        if (currentPlayerIndex == 0) {
-            System.out.println("Not a CPU player's turn!");
+        if (currentPlayer.isHuman()) {
+            log("Not a CPU player's turn!");
             return false;
         }
         
@@ -464,7 +519,7 @@ public class Game {
             // Check for any Draw Two stacking
             if (drawTwoCounter > 0) {
                 // Draw cards and move to next player
-                System.out.println("CPU must draw " + drawTwoCounter + " cards due to Draw Two stack");
+                log("CPU must draw " + drawTwoCounter + " cards due to Draw Two stack");
                 for (int i = 0; i < drawTwoCounter; i++) {
                     Card drawnCard = deck.drawCard();
                     if (drawnCard == null) {
@@ -473,6 +528,7 @@ public class Game {
                     }
                     currentPlayer.addCard(drawnCard);
                 }
+                moveLog.draw(currentPlayerIndex, drawTwoCounter);
                 drawTwoCounter = 0; // Reset the counter
                 moveToNextPlayer();
                 return true;
@@ -481,7 +537,7 @@ public class Game {
             // Check for any Wild Draw Four stacking
             if (drawFourCounter > 0) {
                 // Draw cards and move to next player
-                System.out.println("CPU must draw " + drawFourCounter + " cards due to Draw Four stack");
+                log("CPU must draw " + drawFourCounter + " cards due to Draw Four stack");
                 for (int i = 0; i < drawFourCounter; i++) {
                     Card drawnCard = deck.drawCard();
                     if (drawnCard == null) {
@@ -490,6 +546,7 @@ public class Game {
                     }
                     currentPlayer.addCard(drawnCard);
                 }
+                moveLog.draw(currentPlayerIndex, drawFourCounter);
                 drawFourCounter = 0; // Reset the counter
                 moveToNextPlayer();
                 return true;
@@ -499,18 +556,25 @@ public class Game {
             Card cardToPlay = null;
             int cardIndex = -1;
             
-            // Find a valid card to play (but don't play it yet)
+            // Find a valid card to play (but don't play it yet); a Wild Draw Four only
+            // counts when nothing else fits, otherwise playCard would reject it
             for (int i = 0; i < currentPlayer.getHand().size(); i++) {
                 Card card = currentPlayer.getHand().get(i);
-                if (card.canBePlayedOn(topCard)) {
-                    cardToPlay = card;
-                    cardIndex = i;
-                    break;
+                if (matchesTable(card, topCard)) {
+                    if (card.getType() != Card.Type.WILD_DRAW_FOUR) {
+                        cardToPlay = card;
+                        cardIndex = i;
+                        break;
+                    }
+                    if (cardToPlay == null) {
+                        cardToPlay = card;
+                        cardIndex = i;
+                    }
                 }
             }
             
             if (cardToPlay != null) {
-                System.out.println("CPU played: " + cardToPlay);
+                log("CPU played: " + cardToPlay);
                 
                 // Play the card using the playCard method to ensure proper game updates
                 playedSuccessfully = playCard(cardIndex);
@@ -519,11 +583,12 @@ public class Game {
                 if (playedSuccessfully && (cardToPlay.getType() == Card.Type.WILD || cardToPlay.getType() == Card.Type.WILD_DRAW_FOUR)) {
                     Card.Color chosenColor = chooseBestColorForCpu(currentPlayer);
                     currentColor = chosenColor;
-                    System.out.println("CPU chose color: " + chosenColor);
+                    moveLog.chooseColor(chosenColor);
+                    log("CPU chose color: " + chosenColor);
                 }
             } else {
                 // No valid card, draw one
-                System.out.println("CPU has no valid cards, drawing...");
+                log("CPU has no valid cards, drawing...");
                 Card drawnCard = deck.drawCard();
                 
                 if (drawnCard == null) {
@@ -532,10 +597,11 @@ public class Game {
                 }
                 
                 currentPlayer.addCard(drawnCard);
+                moveLog.draw(currentPlayerIndex, 1);
                 
                 // Check if the drawn card can be played
-                if (drawnCard.canBePlayedOn(topCard)) {
-                    System.out.println("CPU can play the drawn card: " + drawnCard);
+                if (matchesTable(drawnCard, topCard)) {
+                    log("CPU can play the drawn card: " + drawnCard);
                     cardIndex = currentPlayer.getHand().size() - 1;
                     
                     // Play the drawn card using playCard method for consistent game updates
@@ -545,10 +611,11 @@ public class Game {
                     if (playedSuccessfully && (drawnCard.getType() == Card.Type.WILD || drawnCard.getType() == Card.Type.WILD_DRAW_FOUR)) {
                         Card.Color chosenColor = chooseBestColorForCpu(currentPlayer);
                         currentColor = chosenColor;
-                        System.out.println("CPU chose color for drawn card: " + chosenColor);
+                        moveLog.chooseColor(chosenColor);
+                        log("CPU chose color for drawn card: " + chosenColor);
                     }
                 } else {
-                    System.out.println("CPU cannot play the drawn card, moving to next player");
+                    log("CPU cannot play the drawn card, moving to next player");
                     moveToNextPlayer();
                 }
             }
@@ -556,7 +623,7 @@ public class Game {
             // Check for game over
             if (currentPlayer.getHand().isEmpty()) {
                 isGameOver = true;
-                System.out.println("CPU " + currentPlayer.getName() + " has won the game!");
+                log("CPU " + currentPlayer.getName() + " has won the game!");
             }
             
             return playedSuccessfully;
@@ -611,6 +678,21 @@ public class Game {
         }
     }
     
+    private void log(String message) {
+        if (verbose) {
+            System.out.println(message);
+        }
+    }
+    
+    // Read-only copy of the current table; lets another thread render while this game keeps playing
+    public Game snapshot() {
+        return new Game(this);
+    }
+    
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+    
     // Getters and setters
     public List<Player> getPlayers() {
         return players;
@@ -660,6 +742,10 @@ public class Game {
         this.drawTwoCounter = 0;
     }
     
+    public MoveLog getMoveLog() {
+        return moveLog;
+    }
+    
     // Make deck accessible for direct draw operations
     public Deck getDeck() {
         return deck;
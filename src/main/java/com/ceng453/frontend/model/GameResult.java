@@ -0,0 +1,10 @@
+package com.ceng453.frontend.model;
+
+import java.util.List;
+
+// A finished game waiting to be recorded by the backend. The idempotency key is fixed when the game
+// ends, so sending the same result again (after a crash or a lost response) still records it once.
+// moveLog is the game's compressed MoveLog (base64 in JSON); null for results queued before it existed.
+public record GameResult(String idempotencyKey, Long winnerId, List<Long> playerIds, long finishedAtMillis,
+                         byte[] moveLog) {
+}
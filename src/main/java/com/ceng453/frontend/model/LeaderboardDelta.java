@@ -0,0 +1,5 @@
+package com.ceng453.frontend.model;
+
+// A player's new score on a live leaderboard; their rank follows from it
+public record LeaderboardDelta(String username, int score) {
+}
@@ -0,0 +1,5 @@
+package com.ceng453.frontend.model;
+
+// One row of a leaderboard, decoded straight from the backend's JSON; other fields are ignored
+public record LeaderboardEntry(String username, int score) {
+}
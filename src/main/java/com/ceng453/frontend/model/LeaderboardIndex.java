@@ -0,0 +1,199 @@
+package com.ceng453.frontend.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Search structures over one leaderboard, filled page by page in rank order:
+//  - a prefix trie over the usernames (case-insensitive), for filtering as the user types
+//  - the ranks sorted by username, to find one player's rank by binary search
+// Ranks are 0-based positions in the leaderboard, so results always come back in leaderboard order.
+public class LeaderboardIndex {
+    // The trie stops branching at this depth; longer prefixes are matched by scanning the few names
+    // in the node they end up in. Keeps it to a bounded number of nodes even for 100k+ players.
+    private static final int TRIE_DEPTH = 4;
+
+    private static final class TrieNode {
+        private char[] keys = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        // Ranks of the names that end here or, at TRIE_DEPTH, continue below this node
+        private int[] ranks = new int[0];
+        private int rankCount;
+
+        private TrieNode child(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            return i >= 0 ? children[i] : null;
+        }
+
+        private TrieNode addChild(char key) {
+            int i = Arrays.binarySearch(keys, key);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            TrieNode[] newChildren = new TrieNode[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newKeys[at] = key;
+            newChildren[at] = new TrieNode();
+            System.arraycopy(keys, at, newKeys, at + 1, keys.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[at];
+        }
+
+        private void addRank(int rank) {
+            if (rankCount == ranks.length) {
+                ranks = Arrays.copyOf(ranks, Math.max(4, rankCount * 2));
+            }
+            ranks[rankCount++] = rank;
+        }
+    }
+
+    private final List<LeaderboardEntry> rows = new ArrayList<>();
+    private final TrieNode root = new TrieNode();
+    // All ranks sorted by username, brought up to date by the first findRank() after rows were
+    // added: only the new ranks are sorted, then merged into the ones already in order
+    private int[] ranksByUsername = new int[0];
+    private int sortedCount;
+
+    // Appends the next rows in rank order
+    public void addAll(List<LeaderboardEntry> page) {
+        for (LeaderboardEntry entry : page) {
+            int rank = rows.size();
+            rows.add(entry);
+            String username = usernameOf(entry);
+            TrieNode node = root;
+            for (int i = 0; i < Math.min(username.length(), TRIE_DEPTH); i++) {
+                node = node.addChild(Character.toLowerCase(username.charAt(i)));
+            }
+            node.addRank(rank);
+        }
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    // Every player whose username starts with prefix (ignoring case), in leaderboard order
+    public List<LeaderboardEntry> search(String prefix) {
+        TrieNode node = root;
+        int depth = Math.min(prefix.length(), TRIE_DEPTH);
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.child(Character.toLowerCase(prefix.charAt(i)));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        int[] matches;
+        int count = 0;
+        if (prefix.length() > TRIE_DEPTH) {
+            matches = new int[node.rankCount];
+            for (int i = 0; i < node.rankCount; i++) {
+                String username = usernameOf(rows.get(node.ranks[i]));
+                if (username.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                    matches[count++] = node.ranks[i];
+                }
+            }
+        } else {
+            matches = new int[countRanks(node)];
+            count = collectRanks(node, matches, 0);
+        }
+        // Nodes hold their ranks in order, but a subtree visits them by name
+        Arrays.sort(matches, 0, count);
+
+        List<LeaderboardEntry> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(rows.get(matches[i]));
+        }
+        return result;
+    }
+
+    // Rank of the player with exactly this username, or -1 if they are not (yet) on the board
+    public int findRank(String username) {
+        updateRanksByUsername();
+        int low = 0;
+        int high = sortedCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = usernameOf(rows.get(ranksByUsername[mid])).compareTo(username);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return ranksByUsername[mid];
+            }
+        }
+        return -1;
+    }
+
+    private void updateRanksByUsername() {
+        int size = rows.size();
+        if (sortedCount == size) {
+            return;
+        }
+        int[] ranks = Arrays.copyOf(ranksByUsername, size);
+        for (int rank = sortedCount; rank < size; rank++) {
+            ranks[rank] = rank;
+        }
+        int[] buffer = new int[size];
+        sortByUsername(ranks, buffer, sortedCount, size);
+        merge(ranks, buffer, 0, sortedCount, size);
+        ranksByUsername = ranks;
+        sortedCount = size;
+    }
+
+    // Merge sort of ranks[from, to) by username, on primitive ints so nothing is boxed
+    private void sortByUsername(int[] ranks, int[] buffer, int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortByUsername(ranks, buffer, from, middle);
+        sortByUsername(ranks, buffer, middle, to);
+        merge(ranks, buffer, from, middle, to);
+    }
+
+    // Merges the sorted runs ranks[from, middle) and ranks[middle, to)
+    private void merge(int[] ranks, int[] buffer, int from, int middle, int to) {
+        if (from == middle || middle == to) {
+            return;
+        }
+        System.arraycopy(ranks, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || left < middle
+                    && usernameOf(rows.get(buffer[left])).compareTo(usernameOf(rows.get(buffer[right]))) <= 0) {
+                ranks[i] = buffer[left++];
+            } else {
+                ranks[i] = buffer[right++];
+            }
+        }
+    }
+
+    private static int countRanks(TrieNode node) {
+        int count = node.rankCount;
+        for (TrieNode child : node.children) {
+            count += countRanks(child);
+        }
+        return count;
+    }
+
+    private static int collectRanks(TrieNode node, int[] into, int at) {
+        System.arraycopy(node.ranks, 0, into, at, node.rankCount);
+        at += node.rankCount;
+        for (TrieNode child : node.children) {
+            at = collectRanks(child, into, at);
+        }
+        return at;
+    }
+
+    private static String usernameOf(LeaderboardEntry entry) {
+        return entry.username() == null ? "" : entry.username();
+    }
+}
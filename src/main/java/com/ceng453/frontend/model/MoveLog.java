@@ -0,0 +1,162 @@
+package com.ceng453.frontend.model;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+// Compact binary record of every move of one game, uploaded with its result for later analysis.
+// Each move is a varint header (seat << 2 | kind) followed by one varint argument:
+//  START  seat = number of players, argument = id of the first card turned up
+//  PLAY   argument = id of the card played
+//  DRAW   argument = number of cards drawn
+//  COLOR  argument = ordinal of the color chosen for the wild card played just before; seat is 0,
+//         as a Wild Draw Four has already passed the turn on by the time its color is chosen
+// A card id is color ordinal * 15 + symbol, where the symbol is the number (0-9) or 10-14 for
+// SKIP, REVERSE, DRAW_TWO, WILD and WILD_DRAW_FOUR; with up to 32 seats every move takes two bytes.
+// toCompressedBytes() deflates the whole log, which makes a full game a few hundred bytes;
+// decode() reads that form back.
+public class MoveLog {
+    // First byte of the compressed form, so the format can change without breaking old uploads
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int SYMBOLS_PER_COLOR = 15;
+    private static final int FIRST_ACTION_SYMBOL = 10;
+
+    // The two low bits of a move's header
+    public enum Kind { START, PLAY, DRAW, COLOR }
+
+    // One decoded move; what seat and argument mean depends on the kind, see above
+    public record Move(Kind kind, int seat, int argument) {
+        // The card of a START or PLAY move
+        public Card card() {
+            return cardOf(argument);
+        }
+    }
+
+    private byte[] bytes = new byte[256];
+    private int length;
+
+    public void start(int playerCount, Card firstCard) {
+        append(playerCount, Kind.START, cardId(firstCard));
+    }
+
+    public void play(int seat, Card card) {
+        append(seat, Kind.PLAY, cardId(card));
+    }
+
+    public void draw(int seat, int count) {
+        if (count > 0) {
+            append(seat, Kind.DRAW, count);
+        }
+    }
+
+    public void chooseColor(Card.Color color) {
+        append(0, Kind.COLOR, color.ordinal());
+    }
+
+    // The format version followed by the log as a raw deflate stream
+    public byte[] toCompressedBytes() {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(bytes, 0, length);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2 + 16);
+            out.write(FORMAT_VERSION);
+            byte[] buffer = new byte[512];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // The moves of a log produced by toCompressedBytes(), in order
+    public static List<Move> decode(byte[] compressed) {
+        if (compressed.length == 0 || compressed[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported move log format");
+        }
+        byte[] log = inflate(compressed);
+        List<Move> moves = new ArrayList<>();
+        int[] position = {0};
+        while (position[0] < log.length) {
+            int header = readVarint(log, position);
+            int argument = readVarint(log, position);
+            moves.add(new Move(Kind.values()[header & 3], header >>> 2, argument));
+        }
+        return moves;
+    }
+
+    static int cardId(Card card) {
+        int symbol = card.getType() == Card.Type.NUMBER
+                ? card.getNumber()
+                : FIRST_ACTION_SYMBOL - 1 + card.getType().ordinal();
+        return card.getColor().ordinal() * SYMBOLS_PER_COLOR + symbol;
+    }
+
+    static Card cardOf(int id) {
+        Card.Color color = Card.Color.values()[id / SYMBOLS_PER_COLOR];
+        int symbol = id % SYMBOLS_PER_COLOR;
+        return symbol < FIRST_ACTION_SYMBOL
+                ? new Card(color, symbol)
+                : new Card(color, Card.Type.values()[symbol - FIRST_ACTION_SYMBOL + 1]);
+    }
+
+    private void append(int seat, Kind kind, int argument) {
+        writeVarint((seat << 2) | kind.ordinal());
+        writeVarint(argument);
+    }
+
+    // Unsigned LEB128: seven bits per byte, high bit set on all but the last byte
+    private void writeVarint(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    private static int readVarint(byte[] log, int[] position) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            if (position[0] >= log.length) {
+                throw new IllegalArgumentException("Move log ends in the middle of a move");
+            }
+            byte next = log[position[0]++];
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Move log has a malformed number");
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed, 1, compressed.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[512];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Move log is truncated");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Move log is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
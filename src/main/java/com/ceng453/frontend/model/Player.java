@@ -17,6 +17,14 @@ public class Player {
         this.hasCalledUno = false;
     }
     
+    // Copy with its own hand list, for game snapshots
+    Player(Player source) {
+        this.name = source.name;
+        this.isHuman = source.isHuman;
+        this.hand = new ArrayList<>(source.hand);
+        this.hasCalledUno = source.hasCalledUno;
+    }
+    
     public String getName() {
         return name;
     }
@@ -38,6 +46,10 @@ public class Player {
     }
     
     public void addCard(Card card) {
+        // Nothing to add once both the deck and the discard pile have run out
+        if (card == null) {
+            return;
+        }
         hand.add(card);
         // Reset UNO status when drawing cards
         if (hand.size() > 1) {
@@ -1,33 +1,194 @@
 package com.ceng453.frontend.service;
 
+import com.ceng453.frontend.model.GameResult;
+import com.ceng453.frontend.model.LeaderboardDelta;
+import com.ceng453.frontend.model.LeaderboardEntry;
 import com.ceng453.frontend.model.User;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 @Service
 public class ApiService {
 
+    // Connection pool: a handful of keep-alive connections is plenty for one desktop client. Idle
+    // connections are closed before typical proxy/load-balancer idle cut-offs so we never reuse a dead one.
+    private static final int MAX_CONNECTIONS = 16;
+    private static final int MAX_PENDING_ACQUIRES = 64;
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+    private static final Duration MAX_LIFE_TIME = Duration.ofMinutes(5);
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(15);
+    private static final int CONNECT_TIMEOUT_MILLIS = 10_000;
+    // Generous because a sleeping Render instance takes a while to answer its first request
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(60);
+
+    // Per-endpoint deadlines, well inside RESPONSE_TIMEOUT. Login and registration get room for a
+    // backend that is still waking up; a leaderboard attempt is cut short and retried instead.
+    private static final Duration AUTH_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration PASSWORD_RESET_TIMEOUT = Duration.ofSeconds(20);
+    private static final Duration LEADERBOARD_TIMEOUT = Duration.ofSeconds(8);
+    private static final Duration GAME_RESULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // Idempotent GETs only: up to 2 retries, 250 ms then 500 ms, each +/- 50% so clients that failed
+    // together don't retry together. Worst case for a leaderboard is about 3 x 8 s.
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(250);
+    private static final Duration RETRY_MAX_BACKOFF = Duration.ofSeconds(2);
+    private static final double RETRY_JITTER = 0.5;
+    // After this many backend failures in a row, calls fail at once for BREAKER_OPEN_DURATION
+    private static final int BREAKER_FAILURE_THRESHOLD = 5;
+    private static final Duration BREAKER_OPEN_DURATION = Duration.ofSeconds(30);
+    // Live leaderboard streams stay open indefinitely; a connection this quiet (not even a
+    // heartbeat) is assumed dead and replaced
+    private static final Duration LIVE_IDLE_TIMEOUT = Duration.ofSeconds(90);
+    private static final Duration LIVE_RECONNECT_DELAY = Duration.ofSeconds(1);
+    private static final Duration LIVE_MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final boolean connectionWarmUpEnabled;
+    private final String connectionWarmUpPath;
+    private final Duration leaderboardHedgeDelay;
+    private final String liveLeaderboardBaseUrl;
+    // One breaker for the whole backend: every endpoint lives on the same server
+    private final CircuitBreaker circuitBreaker =
+            new CircuitBreaker("uno-api", BREAKER_FAILURE_THRESHOLD, BREAKER_OPEN_DURATION);
+    private final Retry idempotentRetry = Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+            .maxBackoff(RETRY_MAX_BACKOFF)
+            .jitter(RETRY_JITTER)
+            .filter(ApiService::isTransient)
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure());
 
-    public ApiService(@Value("${api.base-url:https://ceng453-group2-uno.onrender.com}") String apiBaseUrl) {
+    private static final ParameterizedTypeReference<ServerSentEvent<LeaderboardDelta>> LEADERBOARD_DELTA_EVENTS =
+            new ParameterizedTypeReference<>() {};
+    private final Map<Leaderboard, CachedLeaderboard> leaderboardCache = new ConcurrentHashMap<>();
+    // Requests still waiting for their response, keyed by method, endpoint and parameters
+    private final Map<List<Object>, Publisher<?>> inFlight = new ConcurrentHashMap<>();
+    // Completed by cancelSessionReads(); the leaderboard reads started before then stop
+    private volatile Sinks.Empty<Void> sessionEnd = Sinks.empty();
+
+    public ApiService(@Value("${api.base-url:https://ceng453-group2-uno.onrender.com}") String apiBaseUrl,
+                      @Value("${api.connection-warmup.enabled:true}") boolean connectionWarmUpEnabled,
+                      @Value("${api.connection-warmup.path:/}") String connectionWarmUpPath,
+                      @Value("${api.leaderboard.hedge-delay:1500ms}") Duration leaderboardHedgeDelay,
+                      @Value("${api.leaderboard.live.base-url:${api.base-url:https://ceng453-group2-uno.onrender.com}}")
+                      String liveLeaderboardBaseUrl) {
+        this.connectionProvider = ConnectionProvider.builder("uno-api")
+                .maxConnections(MAX_CONNECTIONS)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES)
+                .pendingAcquireTimeout(RESPONSE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                // Reuse the most recently used connection, the one least likely to have been dropped
+                .lifo()
+                .build();
+        this.httpClient = createHttpClient(connectionProvider, apiBaseUrl);
+        this.objectMapper = createObjectMapper();
         this.webClient = WebClient.builder()
                 .baseUrl(apiBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                // One mapper for every request and response, so Jackson's serializer and
+                // deserializer caches are built once and shared
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
                 .build();
-        this.objectMapper = new ObjectMapper();
+        this.connectionWarmUpEnabled = connectionWarmUpEnabled;
+        this.connectionWarmUpPath = connectionWarmUpPath;
+        this.leaderboardHedgeDelay = leaderboardHedgeDelay;
+        this.liveLeaderboardBaseUrl = liveLeaderboardBaseUrl;
+    }
+
+    private static HttpClient createHttpClient(ConnectionProvider connectionProvider, String apiBaseUrl) {
+        HttpClient client = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(RESPONSE_TIMEOUT)
+                .compress(true);
+        if (apiBaseUrl.startsWith("https:")) {
+            // HTTP/2 is negotiated via ALPN during the TLS handshake; servers without it get HTTP/1.1
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return client;
+    }
+
+    // Lenient about fields the client doesn't know, so the backend can add some without breaking
+    // decoding. Field names stay canonicalized (the default), so the "username" and "score" keys
+    // repeated in every leaderboard row are not allocated again for each row.
+    private static ObjectMapper createObjectMapper() {
+        return JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    // Pays for the event loop, DNS lookup, TCP/TLS handshake and a cold backend in the background
+    // while the user is still looking at the login screen. Any HTTP status counts: the point is the
+    // pooled connection and an awake server, not the response.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpConnection() {
+        if (!connectionWarmUpEnabled) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        httpClient.warmup()
+                .then(webClient.head()
+                        .uri(connectionWarmUpPath)
+                        .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode().value())))
+                .subscribe(
+                        status -> System.out.println("Backend connection warmed up in "
+                                + (System.nanoTime() - startTime) / 1_000_000 + " ms (HTTP " + status + ")"),
+                        error -> System.err.println("Backend connection warm-up failed: " + error.getMessage()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
     }
 
     // User Authentication Methods
@@ -37,11 +198,12 @@ public class ApiService {
         requestBody.put("email", email);
         requestBody.put("password", password);
 
-        return webClient.post()
+        return singleFlight(List.of("POST", "/users/register", requestBody), () -> webClient.post()
                 .uri("/users/register")
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(String.class)
+                .transform(call -> guarded(call, AUTH_TIMEOUT))
                 .onErrorResume(WebClientResponseException.class, ex -> {
                     System.err.println("Register error: " + ex.getMessage() + ", Response: " + ex.getResponseBodyAsString());
                     return Mono.just("Error: " + ex.getResponseBodyAsString());
@@ -50,7 +212,7 @@ public class ApiService {
                     System.err.println("Unexpected error during registration: " + ex.getMessage());
                     ex.printStackTrace();
                     return Mono.just("Error: Connection failed - " + ex.getMessage());
-                });
+                }));
     }
 
     public Mono<String> login(String username, String password) {
@@ -60,11 +222,12 @@ public class ApiService {
 
         System.out.println("Attempting login for user: " + username + " to backend API");
 
-        return webClient.post()
+        return singleFlight(List.of("POST", "/users/login", requestBody), () -> webClient.post()
                 .uri("/users/login")
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(String.class)
+                .transform(call -> guarded(call, AUTH_TIMEOUT))
                 .doOnNext(response -> System.out.println("Login response: " + response))
                 .onErrorResume(WebClientResponseException.class, ex -> {
                     System.err.println("Login error: " + ex.getMessage() + ", Response: " + ex.getResponseBodyAsString());
@@ -74,21 +237,22 @@ public class ApiService {
                     System.err.println("Unexpected error during login: " + ex.getMessage());
                     ex.printStackTrace();
                     return Mono.just("Error: Connection failed - " + ex.getMessage());
-                });
+                }));
     }
 
     public Mono<String> resetPassword(String email) {
         Map<String, String> requestBody = new HashMap<>();
         requestBody.put("email", email);
 
-        return webClient.post()
+        return singleFlight(List.of("POST", "/password-reset/request", requestBody), () -> webClient.post()
                 .uri("/password-reset/request")
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(String.class)
+                .transform(call -> guarded(call, PASSWORD_RESET_TIMEOUT))
                 .onErrorResume(WebClientResponseException.class, ex -> {
                     return Mono.just("Error: " + ex.getResponseBodyAsString());
-                });
+                }));
     }
 
     public Mono<String> confirmPasswordReset(String token, String newPassword) {
@@ -96,67 +260,361 @@ public class ApiService {
         requestBody.put("token", token);
         requestBody.put("newPassword", newPassword);
 
-        return webClient.post()
+        return singleFlight(List.of("POST", "/password-reset/confirm", requestBody), () -> webClient.post()
                 .uri("/password-reset/confirm")
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(String.class)
+                .transform(call -> guarded(call, PASSWORD_RESET_TIMEOUT))
                 .onErrorResume(WebClientResponseException.class, ex -> {
                     return Mono.just("Error: " + ex.getResponseBodyAsString());
-                });
+                }));
     }
 
     // Leaderboard Methods
-    public Mono<List<Map<String, Object>>> getWeeklyLeaderboard() {
-        return webClient.get()
-                .uri("/leaderboard/weekly")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    System.err.println("Error fetching weekly leaderboard: " + ex.getMessage());
+    public static final int LEADERBOARD_PAGE_SIZE = 1000;
+    // Page number for a request without page parameters
+    private static final int WHOLE_BOARD = -1;
+
+    // Each timeframe is cached for its own TTL: the weekly board moves the most, all-time the least
+    public enum Leaderboard {
+        WEEKLY("/leaderboard/weekly", Duration.ofMinutes(1)),
+        MONTHLY("/leaderboard/monthly", Duration.ofMinutes(5)),
+        ALL_TIME("/leaderboard/all-time", Duration.ofMinutes(15));
+
+        private final String path;
+        private final Duration ttl;
+
+        Leaderboard(String path, Duration ttl) {
+            this.path = path;
+            this.ttl = ttl;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+    }
+
+    // Rows of one leaderboard plus the validators the backend sent with them (either may be null)
+    private record CachedLeaderboard(List<LeaderboardEntry> rows, String etag, String lastModified,
+                                     long fetchedAtNanos) {
+        boolean isFresh(Duration ttl) {
+            return System.nanoTime() - fetchedAtNanos < ttl.toNanos();
+        }
+
+        CachedLeaderboard revalidated() {
+            return new CachedLeaderboard(rows, etag, lastModified, System.nanoTime());
+        }
+    }
+
+    public Mono<List<LeaderboardEntry>> getWeeklyLeaderboard() {
+        return getLeaderboard(Leaderboard.WEEKLY, false).takeLast(1).next();
+    }
+
+    public Mono<List<LeaderboardEntry>> getMonthlyLeaderboard() {
+        return getLeaderboard(Leaderboard.MONTHLY, false).takeLast(1).next();
+    }
+
+    public Mono<List<LeaderboardEntry>> getAllTimeLeaderboard() {
+        return getLeaderboard(Leaderboard.ALL_TIME, false).takeLast(1).next();
+    }
+
+    // Stale-while-revalidate: emits the cached rows at once if there are any, then the fresh rows if
+    // the backend has newer ones. Nothing goes over the network while the cache is within its TTL,
+    // unless forceRefresh is set. If revalidation fails, the cached rows are all the caller gets.
+    public Flux<List<LeaderboardEntry>> getLeaderboard(Leaderboard leaderboard, boolean forceRefresh) {
+        CachedLeaderboard cached = leaderboardCache.get(leaderboard);
+        if (cached != null && !forceRefresh && cached.isFresh(leaderboard.getTtl())) {
+            return Flux.just(cached.rows());
+        }
+        // While the backend is known to be down the cached rows, however old, are the best answer there is
+        if (circuitBreaker.isOpen()) {
+            return cached == null ? Flux.empty() : Flux.just(cached.rows());
+        }
+
+        Mono<List<LeaderboardEntry>> revalidation = fetchLeaderboard(leaderboard, cached)
+                .doOnNext(updated -> leaderboardCache.put(leaderboard, updated))
+                // A 304 keeps the same rows, which the caller already has
+                .filter(updated -> cached == null || updated.rows() != cached.rows())
+                .map(CachedLeaderboard::rows)
+                .onErrorResume(Exception.class, ex -> {
+                    System.err.println("Error fetching " + leaderboard + " leaderboard: " + ex.getMessage());
                     return Mono.empty();
                 });
+        return cached == null ? revalidation.flux() : Flux.concat(Mono.just(cached.rows()), revalidation);
+    }
+
+    // The same board as getLeaderboard(), in pages of LEADERBOARD_PAGE_SIZE rows in rank order, so
+    // the first rows can be shown after one small response. The next page is requested as soon as
+    // the previous one arrives, while the caller is still showing it. A backend that ignores the page
+    // parameters sends the whole board in the first response, which then is the only page.
+    //
+    // Stale-while-revalidate, like getLeaderboard(): cached rows come first as a single page 0, and
+    // within the TTL (or while the breaker is open) that is all. Otherwise page 0 is a conditional
+    // GET with the cached validators: a 304 means the cached board is current and nothing follows.
+    // Every page 0 starts the board over. Once the last page is in, the whole board is cached with
+    // page 0's validators. If a page fails after the cached rows were sent, the cached board is sent
+    // again in place of the partial new one; without a cache the error is passed on.
+    public Flux<LeaderboardPage> getLeaderboardPages(Leaderboard leaderboard, boolean forceRefresh) {
+        CachedLeaderboard cached = leaderboardCache.get(leaderboard);
+        if (cached != null && (circuitBreaker.isOpen() || !forceRefresh && cached.isFresh(leaderboard.getTtl()))) {
+            return Flux.just(new LeaderboardPage(0, cached.rows()));
+        }
+
+        // Shared as a whole, so a caller that comes in while the board is being paged (the screen
+        // opened during SessionWarmUp, say) gets the pages already in and then follows along
+        List<Object> key = List.of("GET", leaderboard.getPath(), "pages");
+        Flux<LeaderboardPage> revalidation = singleFlightMany(key, () -> Flux.defer(() -> {
+            List<LeaderboardEntry> board = new ArrayList<>();
+            return fetchLeaderboardPage(leaderboard, 0, cached)
+                    .flatMapMany(first -> {
+                        if (cached != null && first.rows() == cached.rows()) {
+                            // 304: the board the caller already has is current
+                            leaderboardCache.put(leaderboard, first);
+                            return Flux.<LeaderboardPage>empty();
+                        }
+                        return Mono.just(new LeaderboardPage(0, first.rows()))
+                                .expand(page -> page.isLast() ? Mono.empty()
+                                        : fetchLeaderboardPage(leaderboard, page.number() + 1, null)
+                                        .map(next -> new LeaderboardPage(page.number() + 1, next.rows()))
+                                        // The backend repeated the previous page: it doesn't page after all
+                                        .filter(next -> next.rows().isEmpty()
+                                                || !next.rows().get(0).equals(page.rows().get(0))))
+                                .doOnNext(page -> board.addAll(page.rows()))
+                                .doOnComplete(() -> leaderboardCache.put(leaderboard, new CachedLeaderboard(
+                                        List.copyOf(board), first.etag(), first.lastModified(), first.fetchedAtNanos())));
+                    })
+                    .onErrorResume(Exception.class, ex -> {
+                        System.err.println("Error fetching " + leaderboard + " leaderboard page: " + ex.getMessage());
+                        if (cached == null) {
+                            return Flux.error(ex);
+                        }
+                        // Better the old board than half of a new one
+                        return board.isEmpty() ? Flux.empty() : Flux.just(new LeaderboardPage(0, cached.rows()));
+                    });
+        }));
+        return cached == null
+                ? revalidation
+                : Flux.concat(Mono.just(new LeaderboardPage(0, cached.rows())), revalidation);
+    }
+
+    // One page of a board; page 0 starts the board over
+    public record LeaderboardPage(int number, List<LeaderboardEntry> rows) {
+        boolean isLast() {
+            return rows.size() != LEADERBOARD_PAGE_SIZE;
+        }
+    }
+
+    // Page 0 is a conditional GET when cached is given, like fetchLeaderboard()
+    private Mono<CachedLeaderboard> fetchLeaderboardPage(Leaderboard leaderboard, int page, CachedLeaderboard cached) {
+        Mono<CachedLeaderboard> attempt = withTimeout(requestLeaderboard(leaderboard, page, cached), LEADERBOARD_TIMEOUT);
+        return singleFlight(List.of("GET", leaderboard.getPath(), page), () -> untilSessionEnds(hedgedRead(attempt)));
+    }
+
+    // Conditional GET: sends the cached validators so an unchanged board costs a 304 and no body
+    private Mono<CachedLeaderboard> fetchLeaderboard(Leaderboard leaderboard, CachedLeaderboard cached) {
+        Mono<CachedLeaderboard> attempt = withTimeout(requestLeaderboard(leaderboard, WHOLE_BOARD, cached),
+                LEADERBOARD_TIMEOUT);
+        return singleFlight(List.of("GET", leaderboard.getPath()), () -> untilSessionEnds(hedgedRead(attempt)));
     }
 
-    public Mono<List<Map<String, Object>>> getMonthlyLeaderboard() {
+    // A leaderboard read, retried on transient failures and hedged: if the first attempt hasn't
+    // answered after leaderboardHedgeDelay a second one is sent and whichever answers first wins,
+    // the other is cancelled. A first attempt that fails transiently sends the second one at once;
+    // one that fails otherwise (a 404, say) fails the read without it. A zero delay turns hedging
+    // off. The breaker sees the whole read as one call, so one slow read counts as one failure
+    // however many attempts it took.
+    private <T> Mono<T> hedgedRead(Mono<T> attempt) {
+        Mono<T> hedged = leaderboardHedgeDelay.isZero() || leaderboardHedgeDelay.isNegative()
+                ? attempt
+                : Mono.defer(() -> {
+                    Sinks.Empty<Void> firstFailed = Sinks.empty();
+                    Mono<T> first = attempt.doOnError(error -> {
+                        if (isTransient(error)) {
+                            firstFailed.tryEmitEmpty();
+                        } else {
+                            firstFailed.tryEmitError(error);
+                        }
+                    });
+                    Mono<Object> hedgeTrigger = Mono.firstWithSignal(Mono.delay(leaderboardHedgeDelay), firstFailed.asMono());
+                    return Mono.firstWithValue(first, attempt.delaySubscription(hedgeTrigger));
+                }).onErrorMap(ApiService::firstAttemptError);
+        return circuitBreaker.protect(hedged.retryWhen(idempotentRetry), ApiService::isBackendFailure);
+    }
+
+    // When both attempts of a hedged read fail, firstWithValue reports a NoSuchElementException
+    // with their errors as the cause; the first attempt's error is the one worth surfacing
+    private static Throwable firstAttemptError(Throwable error) {
+        if (error instanceof NoSuchElementException && error.getCause() != null) {
+            return Exceptions.unwrapMultiple(error.getCause()).get(0);
+        }
+        return error;
+    }
+
+    // One page of the board, or the whole board for WHOLE_BOARD. A 304 gives back cached with its
+    // rows unchanged (the same list), which is how callers tell it apart.
+    private Mono<CachedLeaderboard> requestLeaderboard(Leaderboard leaderboard, int page, CachedLeaderboard cached) {
         return webClient.get()
-                .uri("/leaderboard/monthly")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    System.err.println("Error fetching monthly leaderboard: " + ex.getMessage());
-                    return Mono.empty();
+                .uri(uri -> {
+                    uri.path(leaderboard.getPath());
+                    if (page != WHOLE_BOARD) {
+                        uri.queryParam("page", page).queryParam("size", LEADERBOARD_PAGE_SIZE);
+                    }
+                    return uri.build();
+                })
+                .headers(headers -> {
+                    if (cached != null && cached.etag() != null) {
+                        headers.setIfNoneMatch(cached.etag());
+                    }
+                    if (cached != null && cached.lastModified() != null) {
+                        headers.set(HttpHeaders.IF_MODIFIED_SINCE, cached.lastModified());
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+                        return Mono.just(cached.revalidated());
+                    }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createException().flatMap(Mono::error);
+                    }
+                    String etag = response.headers().asHttpHeaders().getETag();
+                    String lastModified = response.headers().asHttpHeaders().getFirst(HttpHeaders.LAST_MODIFIED);
+                    return decodeRows(response)
+                            .collectList()
+                            .map(rows -> new CachedLeaderboard(rows, etag, lastModified, System.nanoTime()));
                 });
     }
 
-    public Mono<List<Map<String, Object>>> getAllTimeLeaderboard() {
+    // Live updates for a board: server-sent events carrying the new score of each player whose score
+    // changed, instead of re-downloading the whole board. Reconnects with backoff whenever the stream
+    // ends or fails; changes made while disconnected show up with the next full load.
+    public Flux<LeaderboardDelta> streamLeaderboardDeltas(Leaderboard leaderboard) {
         return webClient.get()
-                .uri("/leaderboard/all-time")
+                .uri(liveLeaderboardBaseUrl + leaderboard.getPath() + "/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .httpRequest(request -> request.<HttpClientRequest>getNativeRequest().responseTimeout(LIVE_IDLE_TIMEOUT))
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    System.err.println("Error fetching all-time leaderboard: " + ex.getMessage());
-                    return Mono.empty();
-                });
+                .bodyToFlux(LEADERBOARD_DELTA_EVENTS)
+                // Heartbeats are comments without data
+                .mapNotNull(ServerSentEvent::data)
+                .filter(delta -> delta.username() != null)
+                .repeatWhen(completions -> completions.delayElements(LIVE_RECONNECT_DELAY))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, LIVE_RECONNECT_DELAY)
+                        .maxBackoff(LIVE_MAX_RECONNECT_DELAY)
+                        .jitter(RETRY_JITTER)
+                        // Back to the shortest delay once a connection has delivered something
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> System.err.println("Live " + leaderboard
+                                + " leaderboard disconnected, reconnecting: " + signal.failure().getMessage())));
+    }
+
+    // The one decode path for leaderboard rows. The body is a JSON array; the decoder feeds each chunk
+    // to Jackson's non-blocking parser as it arrives and binds every element straight to
+    // LeaderboardEntry, so neither the whole body as a string nor a Map per row is ever built. The
+    // callers collect the rows of one response into a list; what reaches the screen incrementally
+    // is the board page by page, see getLeaderboardPages().
+    private static Flux<LeaderboardEntry> decodeRows(ClientResponse response) {
+        return response.bodyToFlux(LeaderboardEntry.class);
     }
 
     // Game Results Method
-    public Mono<String> recordGameResult(Long winnerId, List<Long> playerIds) {
+    // Used by GameResultOutbox, which retries and therefore needs the failures as they are. The
+    // Idempotency-Key header lets the backend recognise a result it has already recorded.
+    public Mono<String> recordGameResult(GameResult result) {
         Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("winnerId", winnerId);
-        requestBody.put("playerIds", playerIds);
+        requestBody.put("winnerId", result.winnerId());
+        requestBody.put("playerIds", result.playerIds());
+        // Uploads can be hours late, so the backend is told when the game actually ended
+        requestBody.put("finishedAt", result.finishedAtMillis());
+        if (result.moveLog() != null) {
+            // Jackson sends the bytes as one base64 string
+            requestBody.put("moveLog", result.moveLog());
+        }
 
         return webClient.post()
                 .uri("/games/record")
+                .header(IDEMPOTENCY_KEY_HEADER, result.idempotencyKey())
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(String.class)
-                .onErrorResume(WebClientResponseException.class, ex -> {
-                    return Mono.just("Error: " + ex.getResponseBodyAsString());
-                });
+                .transform(call -> guarded(call, GAME_RESULT_TIMEOUT));
     }
 
     // Helper methods
+    // Single flight: while a request with the same key is in flight, callers get that request's Mono
+    // instead of starting another one, and all of them receive its one result. cache() also keeps the
+    // request running if the caller that started it cancels, so the others still get an answer.
+    // Not used for recording game results, where two identical requests are two real games.
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> singleFlight(List<Object> key, Supplier<Mono<T>> request) {
+        return Mono.defer(() -> (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+            // The entry removes itself, so the request needs a reference to its own cached Mono
+            AtomicReference<Mono<T>> shared = new AtomicReference<>();
+            shared.set(request.get()
+                    .doFinally(signal -> inFlight.remove(k, shared.get()))
+                    .cache());
+            return shared.get();
+        }));
+    }
+
+    // singleFlight() for a stream: a caller that joins late first gets everything already sent
+    @SuppressWarnings("unchecked")
+    private <T> Flux<T> singleFlightMany(List<Object> key, Supplier<Flux<T>> request) {
+        return Flux.defer(() -> (Flux<T>) inFlight.computeIfAbsent(key, k -> {
+            AtomicReference<Flux<T>> shared = new AtomicReference<>();
+            shared.set(request.get()
+                    .doFinally(signal -> inFlight.remove(k, shared.get()))
+                    .cache());
+            return shared.get();
+        }));
+    }
+
+    // Stops every leaderboard read still in flight, e.g. on logout. Single flight keeps a read
+    // running when its caller cancels, so cancelling the callers alone would not stop them; the
+    // reads fail with a CancellationException instead and fill no cache.
+    public void cancelSessionReads() {
+        Sinks.Empty<Void> ended = sessionEnd;
+        sessionEnd = Sinks.empty();
+        ended.tryEmitEmpty();
+    }
+
+    private <T> Mono<T> untilSessionEnds(Mono<T> read) {
+        Mono<T> ended = sessionEnd.asMono().then(Mono.error(() -> new CancellationException("Session ended")));
+        return Mono.firstWithSignal(read, ended);
+    }
+
+    // One attempt: fails with a TimeoutException after timeout, or at once while the breaker is open.
+    // The POSTs use this alone and are never retried: one that timed out may still have been carried out.
+    private <T> Mono<T> guarded(Mono<T> call, Duration timeout) {
+        return circuitBreaker.protect(withTimeout(call, timeout), ApiService::isBackendFailure);
+    }
+
+    private static <T> Mono<T> withTimeout(Mono<T> call, Duration timeout) {
+        return call.timeout(timeout, Mono.error(() ->
+                new TimeoutException("No response from the server within " + timeout.toSeconds() + "s")));
+    }
+
+    // Failures that say the backend is down or overloaded, as opposed to rejecting this request
+    private static boolean isBackendFailure(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return error instanceof TimeoutException || error instanceof WebClientRequestException;
+    }
+
+    // Failures worth another attempt
+    private static boolean isTransient(Throwable error) {
+        if (error instanceof WebClientResponseException response
+                && response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            return true;
+        }
+        return isBackendFailure(error);
+    }
+
     private String toJson(Object object) {
         try {
             return objectMapper.writeValueAsString(object);
@@ -0,0 +1,109 @@
+package com.ceng453.frontend.service;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+// Stops calling the backend for a while once it has failed several times in a row, so callers get
+// an immediate error (and ApiService can answer from its caches) instead of waiting out a timeout
+// on every request. After the open period one trial call is let through: success closes the
+// breaker again, failure keeps it open for another period.
+final class CircuitBreaker {
+
+    // Thrown instead of calling the backend while the breaker is open
+    static final class OpenException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        OpenException(long retryInMillis) {
+            super("Server unavailable, retrying in " + Math.max(1, retryInMillis / 1000) + "s");
+        }
+    }
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    // True while calls are being refused; the caller can serve cached data instead
+    synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openedAt < openNanos;
+    }
+
+    // Runs call unless the breaker is open. isFailure decides which errors count against the
+    // backend; others (e.g. a 401 for a wrong password) prove it is up and count as success.
+    <T> Mono<T> protect(Mono<T> call, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            long refusedFor = tryAcquire();
+            if (refusedFor > 0) {
+                return Mono.error(new OpenException(refusedFor / 1_000_000));
+            }
+            return call
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(error -> {
+                        if (isFailure.test(error)) {
+                            onFailure();
+                        } else {
+                            onSuccess();
+                        }
+                    })
+                    // e.g. a read cut short by logout; tells us nothing about the backend
+                    .doOnCancel(this::releaseTrial);
+        });
+    }
+
+    // 0 if the call may go ahead, otherwise how many nanoseconds until the next trial call
+    private synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            long elapsed = System.nanoTime() - openedAt;
+            if (elapsed < openNanos) {
+                return openNanos - elapsed;
+            }
+            state = State.HALF_OPEN;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return 1;
+            }
+            trialInFlight = true;
+        }
+        return 0;
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            System.out.println("Circuit breaker " + name + " closed, backend is reachable again");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                System.err.println("Circuit breaker " + name + " opened after " + consecutiveFailures + " failures");
+            }
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    private synchronized void releaseTrial() {
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,369 @@
+package com.ceng453.frontend.service;
+
+import com.ceng453.frontend.model.GameResult;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Queues finished games on disk and uploads them in the background, so a result survives a crash,
+// a closed laptop or a backend that is down, and the game over screen never waits for the network.
+//
+// The queue is an append-only log of JSON lines: a "result" line when a game is queued and an
+// "ack" line once the backend has it. Replaying the log at startup gives back every result that
+// was never acknowledged. One writer thread appends whatever has been queued since its last write
+// and fsyncs once for all of it. Uploads go out in batches; if any fails, the rest of the queue
+// waits with exponential backoff. A result that is sent twice keeps its idempotency key, so the
+// backend can tell it has seen it already.
+//
+// Only one client on a machine owns the log: the first to lock game-results.lock. Another client
+// started alongside it keeps its queue in memory, so the two never upload or rewrite each other's
+// results.
+@Service
+public class GameResultOutbox {
+    private static final String LOG_FILE_NAME = "game-results.log";
+    private static final String LOCK_FILE_NAME = "game-results.lock";
+    private static final String RESULT = "result";
+    private static final String ACK = "ack";
+
+    private static final int MAX_UPLOAD_BATCH = 20;
+    private static final int UPLOAD_CONCURRENCY = 4;
+    private static final long MIN_BACKOFF_MILLIS = 1_000;
+    private static final long MAX_BACKOFF_MILLIS = 5 * 60_000;
+    // Once everything is acknowledged, a log larger than this is emptied
+    private static final long COMPACT_THRESHOLD_BYTES = 64 * 1024;
+    private static final long WRITER_POLL_MILLIS = 100;
+
+    // One line of the log: a queued result, or the key of a result the backend has acknowledged
+    private record LogRecord(String type, GameResult result, String key) {
+    }
+
+    private final ApiService apiService;
+    private final Path logFile;
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    // Lines waiting for the writer thread
+    private final BlockingQueue<LogRecord> appends = new LinkedBlockingQueue<>();
+    // Results not acknowledged yet, oldest first; guarded by this
+    private final Map<String, GameResult> pending = new LinkedHashMap<>();
+    private boolean uploadScheduled;
+    private int consecutiveFailures;
+
+    private final ScheduledExecutorService uploader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-uploader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Thread writer;
+    private volatile boolean running;
+    private FileChannel channel;
+    // Held for as long as this client owns the log; closing it releases the lock
+    private FileChannel lockChannel;
+
+    public GameResultOutbox(ApiService apiService,
+                            @Value("${outbox.directory:${user.home}/.uno-frontend}") String directory) {
+        this.apiService = apiService;
+        this.logFile = Paths.get(directory, LOG_FILE_NAME);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            Files.createDirectories(logFile.getParent());
+            if (lockLog()) {
+                replayAndCompact();
+                channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+            } else {
+                System.err.println("Game result outbox " + logFile + " is in use by another client; "
+                        + "this one keeps its results in memory until they are uploaded");
+            }
+        } catch (IOException e) {
+            // Results are still uploaded from memory; they just won't survive a restart
+            System.err.println("Game result outbox unavailable (" + logFile + "): " + e.getMessage());
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "outbox-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        synchronized (this) {
+            if (!pending.isEmpty()) {
+                System.out.println("Uploading " + pending.size() + " game result(s) left from an earlier session");
+                scheduleUpload(0);
+            }
+        }
+    }
+
+    // Queues a finished game; returns at once, the write and the upload happen in the background
+    public void enqueue(Long winnerId, List<Long> playerIds, byte[] moveLog) {
+        GameResult result = new GameResult(UUID.randomUUID().toString(), winnerId, List.copyOf(playerIds),
+                System.currentTimeMillis(), moveLog);
+        synchronized (this) {
+            pending.put(result.idempotencyKey(), result);
+        }
+        appends.add(new LogRecord(RESULT, result, null));
+        // The writer runs before the upload gets going; a crash in between loses nothing either way
+        scheduleUpload(0);
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploader.shutdownNow();
+        running = false;
+        if (writer != null) {
+            try {
+                // Lets the writer get the last lines to disk
+                writer.join(TimeUnit.SECONDS.toMillis(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Error closing game result outbox: " + e.getMessage());
+        }
+    }
+
+    // True if this client now owns the log. The lock is advisory, so it only keeps out other clients
+    // that take it too, and the operating system drops it if the process dies.
+    private boolean lockLog() throws IOException {
+        FileChannel candidate = FileChannel.open(logFile.resolveSibling(LOCK_FILE_NAME),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = candidate.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // Held by another outbox in this JVM
+            lock = null;
+        }
+        if (lock == null) {
+            candidate.close();
+            return false;
+        }
+        lockChannel = candidate;
+        return true;
+    }
+
+    // Rebuilds the pending results from the log, then rewrites the log with only those. A line cut
+    // short by a crash can only be the last one and is skipped.
+    private void replayAndCompact() throws IOException {
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        Map<String, GameResult> replayed = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(logFile, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                LogRecord record = objectMapper.readValue(line, LogRecord.class);
+                if (RESULT.equals(record.type()) && record.result() != null) {
+                    replayed.put(record.result().idempotencyKey(), record.result());
+                } else if (ACK.equals(record.type())) {
+                    replayed.remove(record.key());
+                }
+            } catch (IOException e) {
+                System.err.println("Skipping unreadable game result outbox entry: " + e.getMessage());
+            }
+        }
+
+        ByteArrayOutputStream compacted = new ByteArrayOutputStream();
+        for (GameResult result : replayed.values()) {
+            compacted.write(toLine(new LogRecord(RESULT, result, null)));
+        }
+        Path temp = logFile.resolveSibling(LOG_FILE_NAME + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.write(ByteBuffer.wrap(compacted.toByteArray()));
+            out.force(false);
+        }
+        Files.move(temp, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        synchronized (this) {
+            replayed.forEach(pending::putIfAbsent);
+        }
+    }
+
+    // Group commit: everything queued since the last write goes out in one write and one fsync
+    private void runWriter() {
+        List<LogRecord> batch = new ArrayList<>();
+        while (running || !appends.isEmpty()) {
+            try {
+                LogRecord first = appends.poll(WRITER_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            appends.drainTo(batch);
+            if (channel != null) {
+                try {
+                    ByteArrayOutputStream lines = new ByteArrayOutputStream();
+                    for (LogRecord record : batch) {
+                        lines.write(toLine(record));
+                    }
+                    ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(false);
+                    compactIfIdle();
+                } catch (IOException e) {
+                    System.err.println("Error writing game result outbox: " + e.getMessage());
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    // With nothing pending, none of the lines in the log will ever be needed again
+    private void compactIfIdle() throws IOException {
+        synchronized (this) {
+            if (!pending.isEmpty() || !appends.isEmpty() || channel.size() < COMPACT_THRESHOLD_BYTES) {
+                return;
+            }
+            channel.truncate(0);
+        }
+        channel.force(false);
+    }
+
+    private byte[] toLine(LogRecord record) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(record);
+        byte[] line = new byte[json.length + 1];
+        System.arraycopy(json, 0, line, 0, json.length);
+        line[json.length] = '\n';
+        return line;
+    }
+
+    private synchronized void scheduleUpload(long delayMillis) {
+        if (uploadScheduled || uploader.isShutdown()) {
+            return;
+        }
+        uploadScheduled = true;
+        uploader.schedule(this::upload, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Runs on the single uploader thread, so batches never overlap
+    private void upload() {
+        List<GameResult> batch;
+        synchronized (this) {
+            uploadScheduled = false;
+            batch = pending.values().stream().limit(MAX_UPLOAD_BATCH).toList();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<String> done;
+        try {
+            done = uploadBatch(batch);
+        } catch (RuntimeException e) {
+            System.err.println("Error uploading game results: " + e.getMessage());
+            done = List.of();
+        }
+
+        synchronized (this) {
+            for (String key : done) {
+                pending.remove(key);
+                appends.add(new LogRecord(ACK, null, key));
+            }
+            if (uploader.isShutdown()) {
+                return;
+            }
+            if (done.size() < batch.size()) {
+                consecutiveFailures++;
+                long delay = backoffMillis(consecutiveFailures);
+                System.err.println((batch.size() - done.size()) + " game result(s) not uploaded, retrying in "
+                        + delay / 1000 + "s");
+                scheduleUpload(delay);
+            } else {
+                consecutiveFailures = 0;
+                if (!pending.isEmpty()) {
+                    scheduleUpload(0);
+                }
+            }
+        }
+    }
+
+    // Keys of the results that are done with: recorded, or rejected by the backend
+    private List<String> uploadBatch(List<GameResult> batch) {
+        return Flux.fromIterable(batch)
+                .flatMap(result -> apiService.recordGameResult(result)
+                        .thenReturn(result.idempotencyKey())
+                        .onErrorResume(error -> {
+                            if (isRejected(error)) {
+                                // Sending it again would only be rejected again
+                                System.err.println("Game result " + result.idempotencyKey() + " rejected: "
+                                        + ((WebClientResponseException) error).getResponseBodyAsString());
+                                return Mono.just(result.idempotencyKey());
+                            }
+                            return Mono.empty();
+                        }), UPLOAD_CONCURRENCY)
+                .collectList()
+                .block();
+    }
+
+    // The backend refused the result itself, as opposed to not being reachable or overloaded
+    private static boolean isRejected(Throwable error) {
+        if (!(error instanceof WebClientResponseException response)) {
+            return false;
+        }
+        return response.getStatusCode().is4xxClientError()
+                && !response.getStatusCode().isSameCodeAs(HttpStatus.REQUEST_TIMEOUT)
+                && !response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    // Doubles per failure up to MAX_BACKOFF_MILLIS, with +/- 25% jitter
+    private static long backoffMillis(int failures) {
+        long base = Math.min(MAX_BACKOFF_MILLIS, MIN_BACKOFF_MILLIS << Math.min(failures - 1, 20));
+        return (long) (base * (0.75 + ThreadLocalRandom.current().nextDouble() * 0.5));
+    }
+}
@@ -0,0 +1,84 @@
+package com.ceng453.frontend.service;
+
+import com.ceng453.frontend.model.LeaderboardDelta;
+import com.ceng453.frontend.model.LeaderboardEntry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Stand-in for the backend's live leaderboard streams, served by this app's own web server so live
+// mode can be tried without backend support: point api.leaderboard.live.base-url at
+// http://localhost:<server.port>/stand-in. Picks random players of the cached board and raises
+// their scores a few times a second; an empty board gets a handful of made-up players.
+@RestController
+@RequestMapping("/stand-in")
+@ConditionalOnProperty(name = "api.leaderboard.live.stand-in.enabled", havingValue = "true")
+public class LeaderboardStandInController {
+    private static final Duration DELTA_INTERVAL = Duration.ofMillis(250);
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+    private static final int MAX_SCORE_GAIN = 50;
+    private static final int MADE_UP_PLAYERS = 20;
+
+    private final ApiService apiService;
+
+    public LeaderboardStandInController(ApiService apiService) {
+        this.apiService = apiService;
+    }
+
+    @GetMapping(path = "/leaderboard/{timeframe}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<LeaderboardDelta>> streamDeltas(@PathVariable String timeframe) {
+        ApiService.Leaderboard leaderboard = switch (timeframe) {
+            case "weekly" -> ApiService.Leaderboard.WEEKLY;
+            case "monthly" -> ApiService.Leaderboard.MONTHLY;
+            case "all-time" -> ApiService.Leaderboard.ALL_TIME;
+            default -> throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown leaderboard " + timeframe);
+        };
+
+        return apiService.getLeaderboard(leaderboard, false)
+                .takeLast(1)
+                .next()
+                .defaultIfEmpty(List.of())
+                .flatMapMany(rows -> {
+                    // Each stream keeps its own copy of the scores, so its deltas only ever go up
+                    List<String> usernames = new ArrayList<>();
+                    Map<String, Integer> scores = new HashMap<>();
+                    for (LeaderboardEntry row : rows) {
+                        if (row.username() != null && scores.putIfAbsent(row.username(), row.score()) == null) {
+                            usernames.add(row.username());
+                        }
+                    }
+                    if (usernames.isEmpty()) {
+                        for (int i = 1; i <= MADE_UP_PLAYERS; i++) {
+                            usernames.add("player" + i);
+                            scores.put("player" + i, 0);
+                        }
+                    }
+
+                    Flux<ServerSentEvent<LeaderboardDelta>> deltas = Flux.interval(DELTA_INTERVAL).map(tick -> {
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        String username = usernames.get(random.nextInt(usernames.size()));
+                        int score = scores.merge(username, 1 + random.nextInt(MAX_SCORE_GAIN), Integer::sum);
+                        return ServerSentEvent.builder(new LeaderboardDelta(username, score))
+                                .id(Long.toString(tick))
+                                .build();
+                    });
+                    Flux<ServerSentEvent<LeaderboardDelta>> heartbeats = Flux.interval(HEARTBEAT_INTERVAL)
+                            .map(tick -> ServerSentEvent.<LeaderboardDelta>builder().comment("heartbeat").build());
+                    return Flux.merge(deltas, heartbeats);
+                });
+    }
+}
@@ -0,0 +1,97 @@
+package com.ceng453.frontend.ui;
+
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+// Warms card images, sound clips and stylesheets on a pool of background threads during startup.
+// Progress is reported as a fraction of finished tasks so the preloader can show real progress.
+public class AssetPreloader {
+    public static final List<String> STYLESHEETS = List.of("/css/styles.css");
+
+    private final CardImageCache imageCache;
+    private final SoundEngine soundEngine;
+    private final ExecutorService executor;
+
+    public AssetPreloader(CardImageCache imageCache, SoundEngine soundEngine) {
+        this.imageCache = imageCache;
+        this.soundEngine = soundEngine;
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asset-preloader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Number of units of work start() will report on
+    public int getTaskCount() {
+        return CardImageCache.allImagePaths().size() + SoundEngine.Sound.values().length + STYLESHEETS.size();
+    }
+
+    // Starts all preload tasks; the returned future completes once every asset is warm
+    public CompletableFuture<Void> start(DoubleConsumer progressListener) {
+        List<Runnable> tasks = new ArrayList<>();
+        for (String path : CardImageCache.allImagePaths()) {
+            tasks.add(() -> imageCache.load(path));
+        }
+        for (SoundEngine.Sound sound : SoundEngine.Sound.values()) {
+            tasks.add(() -> soundEngine.load(sound));
+        }
+        for (String path : STYLESHEETS) {
+            tasks.add(() -> warmStylesheet(path));
+        }
+
+        int total = tasks.size();
+        AtomicInteger completed = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(total);
+        for (Runnable task : tasks) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    // A single broken asset must not block startup; it will be retried lazily
+                    System.err.println("Error preloading asset: " + e.getMessage());
+                } finally {
+                    progressListener.accept((double) completed.incrementAndGet() / total);
+                }
+            }, executor));
+        }
+
+        long startTime = System.nanoTime();
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, error) -> {
+                    executor.shutdown();
+                    System.out.println("Preloaded " + imageCache.size() + " images, "
+                            + soundEngine.size() + " sounds and " + STYLESHEETS.size() + " stylesheet(s) in "
+                            + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+                });
+    }
+
+    // Applying the stylesheet to a throwaway scene makes the StyleManager parse it and keep it in its
+    // cache, keyed by URL, so the first real scene that adds the same stylesheet finds it parsed.
+    // Scenes that are not on a window may be styled off the FX thread, as SceneManager's preloading does.
+    private void warmStylesheet(String path) {
+        URL url = AssetPreloader.class.getResource(path);
+        if (url == null) {
+            System.err.println("Warning: CSS file not found: " + path);
+            return;
+        }
+        try {
+            Scene scene = new Scene(new StackPane());
+            scene.getStylesheets().add(url.toExternalForm());
+            scene.getRoot().applyCss();
+        } catch (Exception e) {
+            System.err.println("Error loading stylesheet " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.ceng453.frontend.ui;
+
+import com.ceng453.frontend.model.Card;
+import com.ceng453.frontend.model.Game;
+import com.ceng453.frontend.model.Player;
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+// Draws the whole table (hands, discard pile, seat indicators) onto one Canvas instead of one
+// ImageView per card. The scene graph stays at a single node however many cards are out, and
+// clicks on the human hand are hit-tested here. Large opponent hands collapse into a fanned stack.
+public class CanvasBoardRenderer {
+    private static final double HAND_CARD_WIDTH = 80;
+    private static final double HAND_CARD_HEIGHT = 120;
+    private static final double OPPONENT_CARD_WIDTH = 40;
+    private static final double OPPONENT_CARD_HEIGHT = 60;
+    private static final double DISCARD_CARD_WIDTH = 100;
+    private static final double DISCARD_CARD_HEIGHT = 150;
+    private static final double CARD_GAP = 5;
+    private static final double OPPONENT_HAND_MAX_WIDTH = 220;
+    // Narrower opponent hands above SeatLayout.LARGE_TABLE_SEATS
+    private static final double LARGE_TABLE_HAND_MAX_WIDTH = 140;
+    // Opponent hands larger than this are drawn as a fanned stack with a count badge
+    private static final int FAN_LIMIT = 10;
+    private static final int FAN_CARDS = 5;
+
+    private static final Font NAME_FONT = Font.font("System", FontWeight.BOLD, 16);
+    private static final Font BADGE_FONT = Font.font("System", FontWeight.BOLD, 14);
+
+    private final CardImageCache imageCache;
+    private final Pane container = new Pane();
+    private final Canvas canvas = new Canvas();
+
+    // Human hand layout from the last draw, used for hit-testing
+    private double handStartX;
+    private double handStep;
+    private double handY;
+    private int handSize;
+    private IntConsumer onHumanCardClicked = index -> { };
+
+    // Last drawn state, so resizes can redraw without the controller
+    private Game game;
+    private Predicate<Card> playable = card -> true;
+
+    public CanvasBoardRenderer(CardImageCache imageCache) {
+        this.imageCache = imageCache;
+        container.getChildren().add(canvas);
+        container.setPickOnBounds(false);
+        canvas.widthProperty().bind(container.widthProperty());
+        canvas.heightProperty().bind(container.heightProperty());
+        canvas.widthProperty().addListener((observable, oldValue, newValue) -> redraw());
+        canvas.heightProperty().addListener((observable, oldValue, newValue) -> redraw());
+        canvas.setOnMouseClicked(event -> {
+            int index = hitTestHumanHand(event.getX(), event.getY());
+            if (index >= 0) {
+                onHumanCardClicked.accept(index);
+            }
+        });
+    }
+
+    // The node to put in the scene; it fills whatever pane it is added to
+    public Pane getNode() {
+        return container;
+    }
+
+    public void setOnHumanCardClicked(IntConsumer onHumanCardClicked) {
+        this.onHumanCardClicked = onHumanCardClicked;
+    }
+
+    public void render(Game game, Predicate<Card> playable) {
+        this.game = game;
+        this.playable = playable;
+        redraw();
+    }
+
+    // Forgets the game and clears the canvas
+    public void clear() {
+        game = null;
+        handSize = 0;
+        canvas.getGraphicsContext2D().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    // Index of the human card under the point, or -1; later cards are drawn on top so they win
+    public int hitTestHumanHand(double x, double y) {
+        if (y < handY || y > handY + HAND_CARD_HEIGHT) {
+            return -1;
+        }
+        for (int i = handSize - 1; i >= 0; i--) {
+            double cardX = handStartX + i * handStep;
+            if (x >= cardX && x <= cardX + HAND_CARD_WIDTH) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        gc.clearRect(0, 0, width, height);
+        if (game == null || width <= 0 || height <= 0) {
+            return;
+        }
+
+        List<Player> players = game.getPlayers();
+        drawDiscardPile(gc, width / 2, height / 2);
+        drawHumanHand(gc, players.get(0), width, height);
+        drawSeatLabel(gc, players.get(0), 0, width / 2, height - HAND_CARD_HEIGHT - 30);
+
+        double handMaxWidth = players.size() > SeatLayout.LARGE_TABLE_SEATS ? LARGE_TABLE_HAND_MAX_WIDTH : OPPONENT_HAND_MAX_WIDTH;
+        double radiusX = width / 2 - handMaxWidth / 2 - 10;
+        double radiusY = height / 2 - OPPONENT_CARD_HEIGHT - 30;
+        for (int seat = 1; seat < players.size(); seat++) {
+            Point2D position = SeatLayout.position(seat, players.size(), width / 2, height / 2, radiusX, radiusY);
+            Player player = players.get(seat);
+            drawSeatLabel(gc, player, seat, position.getX(), position.getY() - OPPONENT_CARD_HEIGHT / 2 - 18);
+            drawOpponentHand(gc, player.getHand(), position.getX(), position.getY(), handMaxWidth);
+        }
+    }
+
+    private void drawHumanHand(GraphicsContext gc, Player human, double width, double height) {
+        List<Card> hand = human.getHand();
+        handSize = hand.size();
+        handY = height - HAND_CARD_HEIGHT - 10;
+        if (handSize == 0) {
+            return;
+        }
+
+        // Overlap the cards once the hand no longer fits side by side
+        double available = width - 40;
+        double naturalWidth = handSize * (HAND_CARD_WIDTH + CARD_GAP) - CARD_GAP;
+        handStep = naturalWidth <= available || handSize == 1
+                ? HAND_CARD_WIDTH + CARD_GAP
+                : (available - HAND_CARD_WIDTH) / (handSize - 1);
+        double handWidth = handStep * (handSize - 1) + HAND_CARD_WIDTH;
+        handStartX = (width - handWidth) / 2;
+
+        for (int i = 0; i < handSize; i++) {
+            Card card = hand.get(i);
+            boolean isPlayable = playable.test(card);
+            gc.setGlobalAlpha(isPlayable ? 1.0 : 0.5);
+            drawCard(gc, card, handStartX + i * handStep, handY, HAND_CARD_WIDTH, HAND_CARD_HEIGHT);
+        }
+        gc.setGlobalAlpha(1.0);
+    }
+
+    private void drawOpponentHand(GraphicsContext gc, List<Card> hand, double centerX, double centerY,
+                                  double maxWidth) {
+        int count = hand.size();
+        if (count == 0) {
+            return;
+        }
+        double top = centerY - OPPONENT_CARD_HEIGHT / 2;
+
+        if (count > FAN_LIMIT) {
+            // Fanned stack: a few cards rotated around a common pivot plus the real count
+            for (int i = 0; i < FAN_CARDS; i++) {
+                double angle = (i - (FAN_CARDS - 1) / 2.0) * 8;
+                gc.save();
+                gc.translate(centerX, top + OPPONENT_CARD_HEIGHT);
+                gc.rotate(angle);
+                drawCard(gc, hand.get(i), -OPPONENT_CARD_WIDTH / 2, -OPPONENT_CARD_HEIGHT,
+                        OPPONENT_CARD_WIDTH, OPPONENT_CARD_HEIGHT);
+                gc.restore();
+            }
+            drawBadge(gc, String.valueOf(count), centerX + OPPONENT_CARD_WIDTH, top + OPPONENT_CARD_HEIGHT - 10);
+            return;
+        }
+
+        double naturalWidth = count * (OPPONENT_CARD_WIDTH + CARD_GAP) - CARD_GAP;
+        double step = naturalWidth <= maxWidth || count == 1
+                ? OPPONENT_CARD_WIDTH + CARD_GAP
+                : (maxWidth - OPPONENT_CARD_WIDTH) / (count - 1);
+        double handWidth = step * (count - 1) + OPPONENT_CARD_WIDTH;
+        double left = centerX - handWidth / 2;
+        for (int i = 0; i < count; i++) {
+            drawCard(gc, hand.get(i), left + i * step, top, OPPONENT_CARD_WIDTH, OPPONENT_CARD_HEIGHT);
+        }
+    }
+
+    private void drawDiscardPile(GraphicsContext gc, double centerX, double centerY) {
+        Card topCard = game.getTopCard();
+        if (topCard == null) {
+            return;
+        }
+        double x = centerX - DISCARD_CARD_WIDTH / 2;
+        double y = centerY - DISCARD_CARD_HEIGHT / 2 - 40;
+        drawCard(gc, topCard, x, y, DISCARD_CARD_WIDTH, DISCARD_CARD_HEIGHT);
+
+        // Ring in the current color so wild cards show what was chosen
+        gc.setStroke(toPaint(game.getCurrentColor()));
+        gc.setLineWidth(4);
+        gc.strokeRoundRect(x - 4, y - 4, DISCARD_CARD_WIDTH + 8, DISCARD_CARD_HEIGHT + 8, 12, 12);
+    }
+
+    private void drawSeatLabel(GraphicsContext gc, Player player, int seat, double centerX, double baselineY) {
+        boolean active = game.getCurrentPlayerIndex() == seat;
+        gc.setFont(NAME_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setFill(active ? Color.YELLOW : Color.WHITE);
+        gc.fillText(player.getName(), centerX, baselineY);
+
+        // Same meaning as the circles of the node board: green = to move, red = UNO
+        Color indicator = player.getHand().size() == 1 ? Color.RED : active ? Color.GREEN : Color.DARKGREY;
+        double nameWidth = player.getName().length() * 9;
+        gc.setFill(indicator);
+        gc.fillOval(centerX + nameWidth / 2 + 6, baselineY - 8, 16, 16);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(1);
+        gc.strokeOval(centerX + nameWidth / 2 + 6, baselineY - 8, 16, 16);
+    }
+
+    private void drawBadge(GraphicsContext gc, String text, double centerX, double centerY) {
+        gc.setFill(Color.web("#B10DC9"));
+        gc.fillOval(centerX - 14, centerY - 14, 28, 28);
+        gc.setFill(Color.WHITE);
+        gc.setFont(BADGE_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(text, centerX, centerY);
+    }
+
+    private void drawCard(GraphicsContext gc, Card card, double x, double y, double width, double height) {
+        Image image = imageCache.get(card);
+        if (image != null) {
+            gc.drawImage(image, x, y, width, height);
+            return;
+        }
+        // Same fallback as the node board: a colored card with its label
+        gc.setFill(toPaint(card.getColor()));
+        gc.fillRoundRect(x, y, width, height, 10, 10);
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(2);
+        gc.strokeRoundRect(x, y, width, height, 10, 10);
+        gc.setFill(Color.WHITE);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.fillText(card.getType() == Card.Type.NUMBER ? String.valueOf(card.getNumber()) : card.getType().toString(),
+                x + width / 2, y + height / 2);
+    }
+
+    private static Color toPaint(Card.Color color) {
+        return switch (color) {
+            case RED -> Color.RED;
+            case BLUE -> Color.BLUE;
+            case GREEN -> Color.GREEN;
+            case YELLOW -> Color.YELLOW;
+            default -> Color.BLACK;
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.ceng453.frontend.ui;
+
+import javafx.animation.Interpolator;
+import javafx.animation.TranslateTransition;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Flies card images across the board on a mouse-transparent overlay, e.g. from a hand to the discard pile.
+// The flying nodes are cached as bitmaps (CacheHint.SPEED), so moving them is a GPU translate of an
+// existing texture rather than a re-render. Nodes and transitions are pooled, and at most
+// MAX_CONCURRENT flights run at once; further requests are dropped, since the board already shows the result.
+public class CardAnimator {
+    public static final int MAX_CONCURRENT = 8;
+    private static final double CARD_WIDTH = 60;
+    private static final double CARD_HEIGHT = 90;
+
+    private final Pane layer;
+    private final Deque<Flight> idle = new ArrayDeque<>();
+    private final List<Flight> active = new ArrayList<>();
+
+    // One pooled flying card: its node and the transition that moves it
+    private final class Flight {
+        private final ImageView view = new ImageView();
+        private final TranslateTransition transition = new TranslateTransition(Duration.ZERO, view);
+        private Node revealOnArrival;
+
+        private Flight() {
+            view.setFitWidth(CARD_WIDTH);
+            view.setFitHeight(CARD_HEIGHT);
+            view.setManaged(false);
+            view.setVisible(false);
+            view.setCache(true);
+            view.setCacheHint(CacheHint.SPEED);
+            transition.setInterpolator(Interpolator.EASE_BOTH);
+            transition.setOnFinished(event -> finish(this));
+            layer.getChildren().add(view);
+        }
+    }
+
+    public CardAnimator(Pane layer) {
+        this.layer = layer;
+        layer.setMouseTransparent(true);
+    }
+
+    // Flies image from the centre of one node to the centre of another.
+    // revealOnArrival, if given, is hidden until the card lands so it doesn't appear twice.
+    // Returns false if the flight was skipped (concurrency cap reached, nothing to show, or not laid out yet).
+    public boolean fly(Image image, Node from, Node to, Duration duration, Duration delay, Node revealOnArrival) {
+        if (image == null || from == null || to == null || active.size() >= MAX_CONCURRENT
+                || from.getScene() == null || to.getScene() == null) {
+            return false;
+        }
+        Point2D start = centerInLayer(from);
+        Point2D end = centerInLayer(to);
+
+        Flight flight = idle.isEmpty() ? new Flight() : idle.pop();
+        active.add(flight);
+        flight.view.setImage(image);
+        flight.view.relocate(start.getX() - CARD_WIDTH / 2, start.getY() - CARD_HEIGHT / 2);
+        flight.view.setTranslateX(0);
+        flight.view.setTranslateY(0);
+        flight.view.toFront();
+        flight.view.setVisible(true);
+
+        flight.revealOnArrival = revealOnArrival;
+        if (revealOnArrival != null) {
+            revealOnArrival.setVisible(false);
+        }
+
+        flight.transition.setDuration(duration);
+        flight.transition.setDelay(delay);
+        flight.transition.setToX(end.getX() - start.getX());
+        flight.transition.setToY(end.getY() - start.getY());
+        flight.transition.playFromStart();
+        return true;
+    }
+
+    // Stops every flight and shows whatever they were hiding
+    public void cancelAll() {
+        for (Flight flight : new ArrayList<>(active)) {
+            flight.transition.stop();
+            finish(flight);
+        }
+    }
+
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    private void finish(Flight flight) {
+        if (!active.remove(flight)) {
+            return;
+        }
+        flight.view.setVisible(false);
+        flight.view.setImage(null);
+        if (flight.revealOnArrival != null) {
+            flight.revealOnArrival.setVisible(true);
+            flight.revealOnArrival = null;
+        }
+        idle.push(flight);
+    }
+
+    private Point2D centerInLayer(Node node) {
+        Bounds bounds = layer.sceneToLocal(node.localToScene(node.getBoundsInLocal()));
+        return new Point2D(bounds.getCenterX(), bounds.getCenterY());
+    }
+}
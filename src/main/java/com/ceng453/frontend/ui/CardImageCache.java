@@ -0,0 +1,243 @@
+package com.ceng453.frontend.ui;
+
+import com.ceng453.frontend.model.Card;
+import com.ceng453.frontend.model.Deck;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Shared cache of decoded card images. Filled in the background by the AssetPreloader while
+// the application boots and registered as a Spring bean, so the game board never touches the
+// disk on the FX thread. Anything missing from the preload is loaded lazily on first use.
+//
+// The source PNGs are far larger than any card on screen, so images are decoded at a height tier
+// instead: the smallest tier that stays sharp on the largest board on screen. retier() re-decodes
+// everything in the background and swaps the new set in at once; until then the old tier is used.
+public class CardImageCache {
+    public static final String CARD_IMAGES_PATH = "/images/cards/";
+    public static final String CARD_BACK_IMAGE = "/images/card_back.png";
+
+    // Tallest card on the board at its design resolution (the discard pile)
+    public static final double DESIGN_CARD_HEIGHT = 150;
+    // Decoded heights in pixels; 0 means the image's own size, for anything larger than the last tier
+    private static final int[] TIER_HEIGHTS = {160, 320, 640};
+    private static final int NATIVE_TIER = 0;
+    // Covers a 2x (HiDPI) screen at the design size until the board reports its real scale
+    private static final int DEFAULT_TIER = 320;
+
+    private volatile Map<String, Image> images = new ConcurrentHashMap<>();
+    // Paths we already know are not on the classpath, so we don't retry them every turn
+    private final Set<String> missing = ConcurrentHashMap.newKeySet();
+    // Lookups answered from memory vs. ones that had to decode (or found nothing), for the perf HUD
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private volatile int tierHeight = DEFAULT_TIER;
+    // Bumped by every retier() so an older, slower one doesn't overwrite a newer tier
+    private final AtomicInteger tierGeneration = new AtomicInteger();
+    // Card height each board on screen last reported (several with the game tables); guarded by this
+    private final Map<Object, Double> displayHeights = new WeakHashMap<>();
+    // Tier the retier in flight decodes at, and its future; guarded by this
+    private int pendingTierHeight = -1;
+    private CompletableFuture<Void> pendingRetier;
+    private final List<Runnable> tierListeners = new CopyOnWriteArrayList<>();
+    private ExecutorService retierExecutor;
+
+    // Every distinct card face in a standard deck plus the card back
+    public static List<String> allImagePaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Card card : new Deck().getCards()) {
+            paths.add(CARD_IMAGES_PATH + card.getImageFileName());
+        }
+        paths.add(CARD_BACK_IMAGE);
+        return List.copyOf(paths);
+    }
+
+    public Image get(Card card) {
+        return get(CARD_IMAGES_PATH + card.getImageFileName());
+    }
+
+    public Image getCardBack() {
+        return get(CARD_BACK_IMAGE);
+    }
+
+    // Returns the decoded image, or null if the resource does not exist
+    public Image get(String path) {
+        Image image = images.get(path);
+        if (image != null) {
+            hits.increment();
+            return image;
+        }
+        misses.increment();
+        if (missing.contains(path)) {
+            return null;
+        }
+        return load(path);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // Decodes the image synchronously on the calling thread and caches it. The decode happens
+    // outside the map, so loads of other images (and lookups) never wait for it; if two threads
+    // decode the same image at once, the first one cached wins.
+    public Image load(String path) {
+        Image cached = images.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        URL url = CardImageCache.class.getResource(path);
+        if (url == null) {
+            System.err.println("Card image not found: " + path);
+            missing.add(path);
+            return null;
+        }
+        Image image = decode(url, tierHeight);
+        if (image.isError()) {
+            System.err.println("Error decoding card image: " + path);
+            missing.add(path);
+            return null;
+        }
+        Image previous = images.putIfAbsent(path, image);
+        return previous != null ? previous : image;
+    }
+
+    private static Image decode(URL url, int height) {
+        return height == NATIVE_TIER
+                ? new Image(url.toExternalForm(), false)
+                : new Image(url.toExternalForm(), 0, height, true, true, false);
+    }
+
+    // Smallest tier that is at least as tall as a card drawn this many pixels high
+    public static int tierFor(double displayHeight) {
+        for (int height : TIER_HEIGHTS) {
+            if (height >= displayHeight) {
+                return height;
+            }
+        }
+        return NATIVE_TIER;
+    }
+
+    public int getTierHeight() {
+        return tierHeight;
+    }
+
+    // Records that view draws cards displayHeight pixels high and, if the largest such view now needs
+    // another tier, re-decodes every cached image at that tier off the FX thread. The new images
+    // replace the old ones all at once and the tier listeners run on the FX thread.
+    public synchronized CompletableFuture<Void> retier(Object view, double displayHeight) {
+        displayHeights.put(view, displayHeight);
+        return retierToLargest();
+    }
+
+    // The view is no longer on screen; its cards no longer count towards the tier
+    public synchronized void release(Object view) {
+        if (displayHeights.remove(view) != null && !displayHeights.isEmpty()) {
+            retierToLargest();
+        }
+    }
+
+    private CompletableFuture<Void> retierToLargest() {
+        double largest = displayHeights.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        int height = tierFor(largest);
+        if (height == tierHeight) {
+            // Back where we are, e.g. the window grew and shrank again: drop any retier in flight
+            tierGeneration.incrementAndGet();
+            pendingTierHeight = -1;
+            return CompletableFuture.completedFuture(null);
+        }
+        if (height == pendingTierHeight) {
+            return pendingRetier;
+        }
+        int generation = tierGeneration.incrementAndGet();
+        if (retierExecutor == null) {
+            retierExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "image-retier");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        pendingTierHeight = height;
+        pendingRetier = CompletableFuture.runAsync(() -> {
+            // Images loaded while this runs are decoded too, by going over the cache until nothing is new
+            Map<String, Image> decoded = new HashMap<>();
+            Set<String> attempted = new HashSet<>();
+            boolean found = true;
+            while (found) {
+                found = false;
+                for (String path : Set.copyOf(images.keySet())) {
+                    if (generation != tierGeneration.get()) {
+                        return;
+                    }
+                    if (!attempted.add(path)) {
+                        continue;
+                    }
+                    found = true;
+                    URL url = CardImageCache.class.getResource(path);
+                    if (url != null) {
+                        Image image = decode(url, height);
+                        if (!image.isError()) {
+                            decoded.put(path, image);
+                        }
+                    }
+                }
+            }
+            Platform.runLater(() -> {
+                if (generation != tierGeneration.get()) {
+                    return;
+                }
+                // Anything loaded after the last pass keeps its old tier rather than being dropped
+                Map<String, Image> merged = new ConcurrentHashMap<>(images);
+                merged.putAll(decoded);
+                images = merged;
+                tierHeight = height;
+                synchronized (this) {
+                    if (pendingTierHeight == height) {
+                        pendingTierHeight = -1;
+                    }
+                }
+                System.out.println("Card images re-decoded at " + (height == NATIVE_TIER ? "full size" : height + "px"));
+                tierListeners.forEach(Runnable::run);
+            });
+        }, retierExecutor);
+        return pendingRetier;
+    }
+
+    // Runs on the FX thread after a retier() swapped in new images, so views can pick them up
+    public void addTierListener(Runnable listener) {
+        tierListeners.add(listener);
+    }
+
+    public void removeTierListener(Runnable listener) {
+        tierListeners.remove(listener);
+    }
+
+    public boolean isLoaded(String path) {
+        return images.containsKey(path);
+    }
+
+    public int size() {
+        return images.size();
+    }
+}
@@ -0,0 +1,29 @@
+package com.ceng453.frontend.ui;
+
+import javafx.scene.Parent;
+
+// A view generated at build time from one of the FXML files under resources/fxml.
+// build() creates the same node tree FXMLLoader would, injects the fx:id fields, wires the
+// event handlers and calls the controller's initialize(), but without parsing XML at runtime.
+public interface CompiledView {
+    // Package that FxmlViewCompiler writes the generated classes to
+    String GENERATED_PACKAGE = "com.ceng453.frontend.ui.generated";
+
+    String getFxmlPath();
+
+    Class<?> getControllerClass();
+
+    Parent build(Object controller);
+
+    // Maps e.g. "/fxml/game_board.fxml" to "com.ceng453.frontend.ui.generated.GameBoardView"
+    static String classNameFor(String fxmlPath) {
+        String fileName = fxmlPath.substring(fxmlPath.lastIndexOf('/') + 1).replace(".fxml", "");
+        StringBuilder className = new StringBuilder(GENERATED_PACKAGE).append('.');
+        for (String part : fileName.split("[_\\-]")) {
+            if (!part.isEmpty()) {
+                className.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return className.append("View").toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.ceng453.frontend.ui;
+
+import javafx.event.Event;
+import javafx.event.EventHandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+// Runtime helpers for the generated CompiledView classes.
+// Controller members are looked up once per class into static final handles, so building a view
+// only costs direct constructor/setter calls plus a constant handle invocation per fx:id.
+public final class CompiledViews {
+
+    private CompiledViews() {
+    }
+
+    // Handle for an @FXML field, or null if the controller does not declare it (FXMLLoader ignores those too)
+    public static VarHandle field(Class<?> controllerClass, String name) {
+        for (Class<?> type = controllerClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                Field field = type.getDeclaredField(name);
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflectVarHandle(field);
+            } catch (NoSuchFieldException e) {
+                // Keep looking in the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access field " + name + " of " + controllerClass.getName(), e);
+            }
+        }
+        return null;
+    }
+
+    // Handle for an event handler method taking either one Event argument or none,
+    // adapted to the (Object controller, Event event) shape used by handler()
+    public static MethodHandle handler(Class<?> controllerClass, String name) {
+        for (Class<?> type = controllerClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!method.getName().equals(name)) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                boolean takesEvent = parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0]);
+                if (!takesEvent && parameterTypes.length != 0) {
+                    continue;
+                }
+                try {
+                    MethodHandle handle = MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflect(method);
+                    if (!takesEvent) {
+                        handle = MethodHandles.dropArguments(handle, 1, Event.class);
+                    }
+                    return handle.asType(MethodType.methodType(void.class, Object.class, Event.class));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot access handler " + name + " of " + controllerClass.getName(), e);
+                }
+            }
+        }
+        throw new IllegalStateException("Event handler " + name + " not found on " + controllerClass.getName());
+    }
+
+    // Handle for the controller's no-arg initialize() method, or null if there is none
+    public static MethodHandle initializer(Class<?> controllerClass) {
+        for (Class<?> type = controllerClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            try {
+                Method method = type.getDeclaredMethod("initialize");
+                return MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflect(method)
+                        .asType(MethodType.methodType(void.class, Object.class));
+            } catch (NoSuchMethodException e) {
+                // Keep looking in the superclass
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access initialize() of " + controllerClass.getName(), e);
+            }
+        }
+        return null;
+    }
+
+    public static void inject(VarHandle field, Object controller, Object node) {
+        if (field != null) {
+            field.set(controller, node);
+        }
+    }
+
+    public static <T extends Event> EventHandler<T> handler(MethodHandle handle, Object controller) {
+        return event -> {
+            try {
+                handle.invokeExact(controller, (Event) event);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    public static void initialize(MethodHandle initializer, Object controller) {
+        if (initializer == null) {
+            return;
+        }
+        try {
+            initializer.invokeExact(controller);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.ceng453.frontend.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Debug overlay with live rendering numbers: frame time and its histogram, scene-graph node count,
+// image cache hit rate and the time spent in named sections of code (see start()/record()).
+// While hidden its timer is stopped and start() returns 0, so the instrumented code only pays
+// for a boolean check.
+public class PerfHud extends VBox {
+    public static final String STYLE_CLASS = "perf-hud";
+
+    // About four seconds of frames at 60 fps
+    private static final int HISTORY = 240;
+    // Upper bounds of the histogram buckets in ms; the last bucket takes everything slower
+    private static final double[] BUCKET_LIMITS_MILLIS = {8, 17, 25, 33, 50};
+    private static final long STATS_INTERVAL_NANOS = 500_000_000L;
+    private static final double HISTOGRAM_WIDTH = 220;
+    private static final double HISTOGRAM_HEIGHT = 50;
+
+    // Calls, total and worst time of one instrumented section since the last stats update
+    private static final class Section {
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+    }
+
+    private final CardImageCache imageCache;
+    private final Label statsLabel = new Label();
+    private final Canvas histogram = new Canvas(HISTOGRAM_WIDTH, HISTOGRAM_HEIGHT);
+    private final Map<String, Section> sections = new LinkedHashMap<>();
+
+    private final long[] frameNanos = new long[HISTORY];
+    private int frameIndex;
+    private int frameCount;
+    private long lastPulse = -1;
+    private long lastStatsAt = -1;
+    private long lastHits;
+    private long lastMisses;
+    private boolean active;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse(now);
+        }
+    };
+
+    public PerfHud(CardImageCache imageCache) {
+        this.imageCache = imageCache;
+        getStyleClass().add(STYLE_CLASS);
+        setMouseTransparent(true);
+        setVisible(false);
+        getChildren().addAll(statsLabel, histogram);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void toggle() {
+        setActive(!active);
+    }
+
+    public void setActive(boolean active) {
+        if (this.active == active) {
+            return;
+        }
+        this.active = active;
+        setVisible(active);
+        if (active) {
+            resetStats();
+            toFront();
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    // Start of a timed section: pass the result to record() at its end
+    public long start() {
+        return active ? System.nanoTime() : 0;
+    }
+
+    public void record(String section, long startNanos) {
+        if (startNanos == 0 || !active) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        Section stats = sections.computeIfAbsent(section, name -> new Section());
+        stats.calls++;
+        stats.totalNanos += elapsed;
+        stats.maxNanos = Math.max(stats.maxNanos, elapsed);
+    }
+
+    private void resetStats() {
+        frameIndex = 0;
+        frameCount = 0;
+        lastPulse = -1;
+        lastStatsAt = -1;
+        lastHits = imageCache.getHitCount();
+        lastMisses = imageCache.getMissCount();
+        sections.clear();
+        statsLabel.setText("Measuring...");
+        histogram.getGraphicsContext2D().clearRect(0, 0, HISTOGRAM_WIDTH, HISTOGRAM_HEIGHT);
+    }
+
+    private void onPulse(long now) {
+        if (lastPulse >= 0) {
+            frameNanos[frameIndex] = now - lastPulse;
+            frameIndex = (frameIndex + 1) % HISTORY;
+            frameCount = Math.min(frameCount + 1, HISTORY);
+        }
+        lastPulse = now;
+
+        if (lastStatsAt < 0) {
+            lastStatsAt = now;
+        } else if (now - lastStatsAt >= STATS_INTERVAL_NANOS) {
+            lastStatsAt = now;
+            updateStats();
+        }
+    }
+
+    private void updateStats() {
+        if (frameCount == 0) {
+            return;
+        }
+        long total = 0;
+        long worst = 0;
+        int[] buckets = new int[BUCKET_LIMITS_MILLIS.length + 1];
+        for (int i = 0; i < frameCount; i++) {
+            long nanos = frameNanos[i];
+            total += nanos;
+            worst = Math.max(worst, nanos);
+            buckets[bucketOf(nanos / 1_000_000.0)]++;
+        }
+        double averageMillis = total / 1_000_000.0 / frameCount;
+
+        long hits = imageCache.getHitCount();
+        long misses = imageCache.getMissCount();
+        long lookups = (hits - lastHits) + (misses - lastMisses);
+        String hitRate = lookups == 0 ? "-" : String.format("%.1f%%", 100.0 * (hits - lastHits) / lookups);
+        lastHits = hits;
+        lastMisses = misses;
+
+        StringBuilder text = new StringBuilder(String.format(
+                "Frame: %.1f ms avg, %.1f ms max (%.0f fps)%nNodes: %,d%nImage cache: %s hits, %d cached%n",
+                averageMillis, worst / 1_000_000.0, 1000 / averageMillis,
+                getScene() == null ? 0 : countNodes(getScene().getRoot()), hitRate, imageCache.size()));
+        for (Map.Entry<String, Section> entry : sections.entrySet()) {
+            Section section = entry.getValue();
+            if (section.calls == 0) {
+                text.append(String.format("%s: -%n", entry.getKey()));
+            } else {
+                text.append(String.format("%s: %.2f ms avg, %.2f ms max, %d calls%n", entry.getKey(),
+                        section.totalNanos / 1_000_000.0 / section.calls, section.maxNanos / 1_000_000.0,
+                        section.calls));
+            }
+            section.calls = 0;
+            section.totalNanos = 0;
+            section.maxNanos = 0;
+        }
+        statsLabel.setText(text.toString().trim());
+        drawHistogram(buckets);
+    }
+
+    private static int bucketOf(double millis) {
+        for (int i = 0; i < BUCKET_LIMITS_MILLIS.length; i++) {
+            if (millis <= BUCKET_LIMITS_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS_MILLIS.length;
+    }
+
+    // One bar per bucket, green for frames within 60 fps through red for the slowest bucket
+    private void drawHistogram(int[] buckets) {
+        GraphicsContext gc = histogram.getGraphicsContext2D();
+        gc.clearRect(0, 0, HISTOGRAM_WIDTH, HISTOGRAM_HEIGHT);
+        double barWidth = HISTOGRAM_WIDTH / buckets.length;
+        for (int i = 0; i < buckets.length; i++) {
+            double height = (HISTOGRAM_HEIGHT - 2) * buckets[i] / frameCount;
+            gc.setFill(Color.hsb(120 - 120.0 * i / (buckets.length - 1), 0.8, 0.9));
+            gc.fillRect(i * barWidth + 1, HISTOGRAM_HEIGHT - height, barWidth - 2, height);
+        }
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
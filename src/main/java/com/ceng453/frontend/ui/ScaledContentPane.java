@@ -0,0 +1,95 @@
+package com.ceng453.frontend.ui;
+
+import javafx.animation.PauseTransition;
+import javafx.scene.Parent;
+import javafx.scene.layout.Region;
+import javafx.scene.transform.Scale;
+import javafx.util.Duration;
+
+import java.util.function.DoubleConsumer;
+
+// Shows a view laid out once at a fixed design size and fits it to the window with a single
+// Scale transform (letterboxed, aspect ratio kept). Resizing the window or toggling fullscreen
+// only updates the transform; the content keeps its size, so nothing inside it is laid out again.
+public class ScaledContentPane extends Region {
+    // How long the size has to stay put before the settled-scale handler runs
+    private static final Duration SETTLE_DELAY = Duration.millis(300);
+
+    private final Parent content;
+    private final double designWidth;
+    private final double designHeight;
+    private final Scale scale = new Scale(1, 1, 0, 0);
+    private final PauseTransition settleDelay = new PauseTransition(SETTLE_DELAY);
+    private DoubleConsumer onScaleSettled = value -> { };
+    private double settledScale = 1;
+
+    public ScaledContentPane(Parent content, double designWidth, double designHeight) {
+        this.content = content;
+        this.designWidth = designWidth;
+        this.designHeight = designHeight;
+        content.getTransforms().add(scale);
+        getChildren().add(content);
+
+        // The letterbox bars use the content's own background
+        if (content instanceof Region region) {
+            backgroundProperty().bind(region.backgroundProperty());
+        }
+
+        settleDelay.setOnFinished(event -> {
+            if (scale.getX() != settledScale) {
+                settledScale = scale.getX();
+                onScaleSettled.accept(settledScale);
+            }
+        });
+    }
+
+    // Called once a drag-resize has come to rest, with the final scale; used for expensive follow-ups
+    public void setOnScaleSettled(DoubleConsumer onScaleSettled) {
+        this.onScaleSettled = onScaleSettled;
+    }
+
+    public double getScale() {
+        return scale.getX();
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double width = getWidth();
+        double height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        // Same size every time, so the content only lays itself out when its own children change
+        content.resize(designWidth, designHeight);
+
+        double factor = Math.min(width / designWidth, height / designHeight);
+        if (factor != scale.getX()) {
+            scale.setX(factor);
+            scale.setY(factor);
+            settleDelay.playFromStart();
+        }
+        content.relocate(snapPositionX((width - designWidth * factor) / 2),
+                snapPositionY((height - designHeight * factor) / 2));
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        return designWidth;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        return designHeight;
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        return 0;
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return 0;
+    }
+}
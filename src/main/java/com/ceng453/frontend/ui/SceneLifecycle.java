@@ -0,0 +1,20 @@
+package com.ceng453.frontend.ui;
+
+// Lifecycle callbacks for controllers whose scene is cached by the SceneManager.
+// initialize() runs once when the view is first built (possibly on a background thread),
+// the methods below always run on the FX thread.
+public interface SceneLifecycle {
+
+    // The scene is about to become the active scene; bring the view back to a fresh state
+    default void onShow() {
+    }
+
+    // The user navigated away; stop animations, cancel pending work and drop per-visit nodes
+    default void onHide() {
+    }
+
+    // The cached scene is being thrown away; release everything the controller still holds
+    default void dispose() {
+        onHide();
+    }
+}
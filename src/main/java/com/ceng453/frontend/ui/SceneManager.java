@@ -1,29 +1,90 @@
 package com.ceng453.frontend.ui;
 
 import com.ceng453.frontend.model.User;
+import jakarta.annotation.PreDestroy;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.layout.Region;
 import javafx.stage.Stage;
+import javafx.stage.Window;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.DoubleConsumer;
 
 @Component
 public class SceneManager {
 
+    // FXML locations
+    public static final String LOGIN_FXML = "/fxml/login.fxml";
+    public static final String REGISTER_FXML = "/fxml/register.fxml";
+    public static final String RESET_PASSWORD_FXML = "/fxml/reset_password.fxml";
+    public static final String MAIN_MENU_FXML = "/fxml/main_menu.fxml";
+    public static final String LEADERBOARD_FXML = "/fxml/leaderboard.fxml";
+    public static final String GAME_BOARD_FXML = "/fxml/game_board.fxml";
+    public static final String GAME_TABLES_FXML = "/fxml/game_tables.fxml";
+    public static final String MULTIPLAYER_LOBBY_FXML = "/fxml/multiplayer_lobby.fxml";
+    public static final String MULTIPLAYER_GAME_FXML = "/fxml/multiplayer_game.fxml";
+
+    private static final String CSS_PATH = "/css/styles.css";
+
+    // Scenes laid out once at their design size and scaled to fit the window instead of reflowing
+    private static final List<String> SCALED_SCENES = List.of(GAME_BOARD_FXML);
+    
+    // Scenes the user is likely to open next from a given scene; these are built in the background
+    private static final Map<String, List<String>> LIKELY_NEXT_SCENES = Map.of(
+            LOGIN_FXML, List.of(MAIN_MENU_FXML, GAME_BOARD_FXML, REGISTER_FXML),
+            MAIN_MENU_FXML, List.of(GAME_BOARD_FXML, LEADERBOARD_FXML),
+            GAME_TABLES_FXML, List.of(MAIN_MENU_FXML),
+            REGISTER_FXML, List.of(LOGIN_FXML),
+            RESET_PASSWORD_FXML, List.of(LOGIN_FXML)
+    );
+
     private final ApplicationContext applicationContext;
+    private final boolean compiledViewsEnabled;
+    private final boolean boardScalingEnabled;
     private Stage primaryStage;
     private User currentUser;
+    // Scene currently on the stage, so it can be told when the user navigates away
+    private CachedScene activeScene;
+
+    // One scene per FXML path, built once and reused on every later visit
+    private final Map<String, CompletableFuture<CachedScene>> sceneCache = new ConcurrentHashMap<>();
+    private final ExecutorService scenePreloader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "scene-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     // Default scene dimensions
     private final int DEFAULT_WIDTH = 1024;
     private final int DEFAULT_HEIGHT = 768;
 
-    public SceneManager(ApplicationContext applicationContext) {
+    private record CachedScene(Scene scene, Object controller) {
+    }
+
+    // A view built outside the scene cache, e.g. one of several game tables shown in the same scene
+    public record LoadedView(Parent root, Object controller) {
+    }
+
+    public SceneManager(ApplicationContext applicationContext,
+                        @Value("${ui.compiled-views.enabled:true}") boolean compiledViewsEnabled,
+                        @Value("${ui.board-scaling.enabled:true}") boolean boardScalingEnabled) {
         this.applicationContext = applicationContext;
+        this.compiledViewsEnabled = compiledViewsEnabled;
+        this.boardScalingEnabled = boardScalingEnabled;
     }
 
     public void setPrimaryStage(Stage primaryStage) {
@@ -39,52 +100,162 @@ public class SceneManager {
     }
 
     public void showLoginScene() {
-        loadScene("/fxml/login.fxml", "UNO - Login", 600, 400);
+        loadScene(LOGIN_FXML, "UNO - Login");
     }
 
     public void showRegisterScene() {
-        loadScene("/fxml/register.fxml", "UNO - Register", 600, 400);
+        loadScene(REGISTER_FXML, "UNO - Register");
     }
 
     public void showPasswordResetScene() {
-        loadScene("/fxml/reset_password.fxml", "UNO - Reset Password", 600, 400);
+        loadScene(RESET_PASSWORD_FXML, "UNO - Reset Password");
     }
 
     public void showMainMenuScene() {
-        loadScene("/fxml/main_menu.fxml", "UNO - Main Menu", 800, 600);
+        loadScene(MAIN_MENU_FXML, "UNO - Main Menu");
     }
 
     public void showLeaderboardScene() {
-        loadScene("/fxml/leaderboard.fxml", "UNO - Leaderboard", 800, 600);
+        loadScene(LEADERBOARD_FXML, "UNO - Leaderboard");
     }
 
     public void showSinglePlayerGameScene() {
-        loadScene("/fxml/game_board.fxml", "UNO - Single Player Game", DEFAULT_WIDTH, DEFAULT_HEIGHT);
+        loadScene(GAME_BOARD_FXML, "UNO - Single Player Game");
+    }
+
+    public void showGameTablesScene() {
+        loadScene(GAME_TABLES_FXML, "UNO - Game Tables");
     }
 
     public void showMultiplayerLobbyScene() {
-        loadScene("/fxml/multiplayer_lobby.fxml", "UNO - Multiplayer Lobby", 800, 600);
+        loadScene(MULTIPLAYER_LOBBY_FXML, "UNO - Multiplayer Lobby");
     }
 
     public void showMultiplayerGameScene() {
-        loadScene("/fxml/multiplayer_game.fxml", "UNO - Multiplayer Game", DEFAULT_WIDTH, DEFAULT_HEIGHT);
+        loadScene(MULTIPLAYER_GAME_FXML, "UNO - Multiplayer Game");
+    }
+
+    // Builds the given scenes on the background thread so the first visit is instant.
+    // The returned future completes once all of them are built (or have failed to build).
+    public CompletableFuture<Void> preloadScenes(List<String> fxmlPaths) {
+        List<CompletableFuture<CachedScene>> pending = new ArrayList<>();
+        for (String fxmlPath : fxmlPaths) {
+            pending.add(sceneCache.computeIfAbsent(fxmlPath, path -> CompletableFuture.supplyAsync(() -> {
+                CachedScene cachedScene = createScene(path);
+                if (cachedScene == null) {
+                    // Don't keep failed loads around, the next visit retries on the FX thread
+                    sceneCache.remove(path);
+                }
+                return cachedScene;
+            }, scenePreloader)));
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).exceptionally(error -> null);
     }
 
-    private void loadScene(String fxmlPath, String title, int width, int height) {
+    // Disposes and drops every cached scene except the one on screen, e.g. when the user logs out,
+    // then builds the scenes likely to follow the one on screen again in the background
+    public void clearSceneCache() {
+        String activePath = null;
+        for (Map.Entry<String, CompletableFuture<CachedScene>> entry : sceneCache.entrySet()) {
+            CachedScene cachedScene = entry.getValue().getNow(null);
+            if (cachedScene == activeScene) {
+                activePath = entry.getKey();
+                continue;
+            }
+            if (cachedScene != null) {
+                disposeScene(cachedScene);
+            } else {
+                // Still being built in the background; dispose it once it is ready
+                entry.getValue().thenAccept(built -> {
+                    if (built != null) {
+                        Platform.runLater(() -> disposeScene(built));
+                    }
+                });
+            }
+            sceneCache.remove(entry.getKey(), entry.getValue());
+        }
+        if (activePath != null) {
+            preloadScenes(LIKELY_NEXT_SCENES.getOrDefault(activePath, List.of()));
+        }
+    }
+
+    @PreDestroy
+    public void disposeAllScenes() {
+        scenePreloader.shutdownNow();
+        for (CompletableFuture<CachedScene> pending : sceneCache.values()) {
+            CachedScene cachedScene = pending.getNow(null);
+            if (cachedScene != null) {
+                disposeScene(cachedScene);
+            }
+        }
+        sceneCache.clear();
+        activeScene = null;
+    }
+
+    private void loadScene(String fxmlPath, String title) {
         try {
-            System.out.println("Attempting to load scene: " + fxmlPath);
-            FXMLLoader loader = new FXMLLoader();
-            loader.setControllerFactory(applicationContext::getBean);
-            loader.setLocation(getClass().getResource(fxmlPath));
-            
-            if (loader.getLocation() == null) {
-                System.err.println("ERROR: Could not find FXML file at: " + fxmlPath);
+            CachedScene cachedScene = getOrCreateScene(fxmlPath);
+            if (cachedScene == null) {
                 return;
             }
-            
-            Parent root = loader.load();
-            Scene scene = new Scene(root, width, height);
-            
+
+            // Let the previous scene stop its work before the next one starts
+            if (activeScene != null && activeScene.controller() instanceof SceneLifecycle lifecycle) {
+                lifecycle.onHide();
+            }
+            activeScene = cachedScene;
+
+            // Bring the reused view back to a fresh state
+            if (cachedScene.controller() instanceof SceneLifecycle lifecycle) {
+                lifecycle.onShow();
+            }
+
+            primaryStage.setTitle(title);
+            primaryStage.setScene(cachedScene.scene());
+            primaryStage.centerOnScreen();
+
+            // If stage was not visible, make it visible
+            if (!primaryStage.isShowing()) {
+                primaryStage.show();
+            }
+
+            System.out.println("Successfully showed scene: " + fxmlPath);
+            preloadScenes(LIKELY_NEXT_SCENES.getOrDefault(fxmlPath, List.of()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.err.println("Error loading scene: " + fxmlPath + " - " + e.getMessage());
+        }
+    }
+
+    private CachedScene getOrCreateScene(String fxmlPath) {
+        CompletableFuture<CachedScene> pending = sceneCache.get(fxmlPath);
+        if (pending != null) {
+            // Either already built or being built in the background; waiting beats building twice
+            CachedScene cachedScene = pending.exceptionally(error -> null).join();
+            if (cachedScene != null) {
+                return cachedScene;
+            }
+        }
+
+        CachedScene cachedScene = createScene(fxmlPath);
+        if (cachedScene != null) {
+            sceneCache.put(fxmlPath, CompletableFuture.completedFuture(cachedScene));
+        }
+        return cachedScene;
+    }
+
+    // Builds the view and its scene; safe to call off the FX thread since nothing is shown yet
+    private CachedScene createScene(String fxmlPath) {
+        try {
+            System.out.println("Attempting to load scene: " + fxmlPath);
+            LoadedView view = loadView(fxmlPath);
+            if (view == null) {
+                return null;
+            }
+            Parent root = view.root();
+
+            Scene scene = new Scene(root, sceneWidth(fxmlPath), sceneHeight(fxmlPath));
+
             // Make root resizable
             if (root instanceof Region) {
                 Region region = (Region) root;
@@ -92,28 +263,143 @@ public class SceneManager {
                 region.setPrefSize(Region.USE_COMPUTED_SIZE, Region.USE_COMPUTED_SIZE);
                 region.setMaxSize(Double.MAX_VALUE, Double.MAX_VALUE);
             }
-            
+
             // Apply CSS
-            String cssPath = "/css/styles.css";
-            if (getClass().getResource(cssPath) != null) {
-                scene.getStylesheets().add(getClass().getResource(cssPath).toExternalForm());
+            URL cssUrl = getClass().getResource(CSS_PATH);
+            if (cssUrl != null) {
+                scene.getStylesheets().add(cssUrl.toExternalForm());
             } else {
-                System.err.println("Warning: CSS file not found: " + cssPath);
+                System.err.println("Warning: CSS file not found: " + CSS_PATH);
             }
-            
-            primaryStage.setTitle(title);
-            primaryStage.setScene(scene);
-            primaryStage.centerOnScreen();
-            
-            // If stage was not visible, make it visible
-            if (!primaryStage.isShowing()) {
-                primaryStage.show();
-            }
-            
+
             System.out.println("Successfully loaded scene: " + fxmlPath);
+            return new CachedScene(scene, view.controller());
         } catch (Exception e) {
             e.printStackTrace();
             System.err.println("Error loading scene: " + fxmlPath + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Builds a view and its controller without a scene. Every call builds a new view; for prototype
+    // controllers such as the game board each one also gets its own controller. The caller owns the
+    // result and disposes its controller when done. Returns null if the view could not be loaded.
+    public LoadedView loadView(String fxmlPath) {
+        try {
+            Parent root = null;
+            Object controller = null;
+
+            CompiledView compiledView = findCompiledView(fxmlPath);
+            if (compiledView != null) {
+                // Generated at build time from the same FXML, no XML parsing or reflective wiring
+                try {
+                    controller = applicationContext.getBean(compiledView.getControllerClass());
+                    root = compiledView.build(controller);
+                } catch (RuntimeException e) {
+                    System.err.println("Warning: compiled view for " + fxmlPath + " failed, using FXML: " + e.getMessage());
+                    root = null;
+                }
+            }
+
+            if (root == null) {
+                FXMLLoader loader = new FXMLLoader();
+                loader.setControllerFactory(applicationContext::getBean);
+                loader.setLocation(getClass().getResource(fxmlPath));
+
+                if (loader.getLocation() == null) {
+                    System.err.println("ERROR: Could not find FXML file at: " + fxmlPath);
+                    return null;
+                }
+
+                root = loader.load();
+                controller = loader.getController();
+            }
+
+            if (boardScalingEnabled && SCALED_SCENES.contains(fxmlPath)) {
+                root = createScaledRoot(root, sceneWidth(fxmlPath), sceneHeight(fxmlPath));
+            }
+            return new LoadedView(root, controller);
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.err.println("Error loading view: " + fxmlPath + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void disposeScene(CachedScene cachedScene) {
+        try {
+            if (cachedScene.controller() instanceof SceneLifecycle lifecycle) {
+                lifecycle.dispose();
+            }
+        } catch (Exception e) {
+            System.err.println("Error disposing scene: " + e.getMessage());
+        }
+    }
+
+    // Returns the generated view for the FXML file, or null to fall back to FXMLLoader
+    private CompiledView findCompiledView(String fxmlPath) {
+        if (!compiledViewsEnabled) {
+            return null;
+        }
+        try {
+            Class<?> viewClass = Class.forName(CompiledView.classNameFor(fxmlPath));
+            return (CompiledView) viewClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            // Not generated (e.g. built without the generate-sources step)
+            return null;
+        } catch (Exception | LinkageError e) {
+            System.err.println("Warning: compiled view for " + fxmlPath + " is unusable, using FXML: " + e.getMessage());
+            return null;
         }
     }
+
+    // Wraps the view so window resizes only change one scale transform. Once a resize settles,
+    // the card images are re-decoded at a resolution that suits the new on-screen size. Every
+    // board on a window reports its size, so with several tables the largest one decides.
+    private Parent createScaledRoot(Parent root, double designWidth, double designHeight) {
+        ScaledContentPane scaledRoot = new ScaledContentPane(root, designWidth, designHeight);
+        CardImageCache imageCache = applicationContext.getBean(CardImageCache.class);
+        DoubleConsumer reportScale = scale -> {
+            Window window = scaledRoot.getScene() != null ? scaledRoot.getScene().getWindow() : null;
+            if (window != null) {
+                imageCache.retier(scaledRoot, CardImageCache.DESIGN_CARD_HEIGHT * scale * window.getOutputScaleY());
+            }
+        };
+        scaledRoot.setOnScaleSettled(reportScale);
+
+        // Off screen (a cached scene, a closed table) the board stops counting until it is shown again
+        ChangeListener<Window> windowListener = (observable, oldWindow, window) -> {
+            if (window == null) {
+                imageCache.release(scaledRoot);
+            } else {
+                reportScale.accept(scaledRoot.getScale());
+            }
+        };
+        scaledRoot.sceneProperty().addListener((observable, oldScene, scene) -> {
+            if (oldScene != null) {
+                oldScene.windowProperty().removeListener(windowListener);
+            }
+            if (scene != null) {
+                scene.windowProperty().addListener(windowListener);
+            }
+            windowListener.changed(null, null, scene != null ? scene.getWindow() : null);
+        });
+        return scaledRoot;
+    }
+
+    private int sceneWidth(String fxmlPath) {
+        return switch (fxmlPath) {
+            case LOGIN_FXML, REGISTER_FXML, RESET_PASSWORD_FXML -> 600;
+            case GAME_BOARD_FXML, GAME_TABLES_FXML, MULTIPLAYER_GAME_FXML -> DEFAULT_WIDTH;
+            default -> 800;
+        };
+    }
+
+    private int sceneHeight(String fxmlPath) {
+        return switch (fxmlPath) {
+            case LOGIN_FXML, REGISTER_FXML, RESET_PASSWORD_FXML -> 400;
+            case GAME_BOARD_FXML, GAME_TABLES_FXML, MULTIPLAYER_GAME_FXML -> DEFAULT_HEIGHT;
+            default -> 600;
+        };
+    }
 }
@@ -0,0 +1,20 @@
+package com.ceng453.frontend.ui;
+
+import javafx.geometry.Point2D;
+
+// Places the seats of an N-player table on an ellipse, clockwise from seat 0 at the bottom centre.
+// Shared by the node board and the canvas board so both put every seat in the same spot.
+public final class SeatLayout {
+    // Tables with more seats than the classic four draw opponent hands smaller, so neighbours don't overlap
+    public static final int LARGE_TABLE_SEATS = 4;
+
+    private SeatLayout() {
+    }
+
+    // Centre of the given seat on the ellipse with the given centre and radii
+    public static Point2D position(int seat, int seatCount, double centerX, double centerY,
+                                   double radiusX, double radiusY) {
+        double angle = Math.PI / 2 + seat * 2 * Math.PI / seatCount;
+        return new Point2D(centerX + radiusX * Math.cos(angle), centerY + radiusY * Math.sin(angle));
+    }
+}
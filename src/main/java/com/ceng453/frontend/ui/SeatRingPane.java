@@ -0,0 +1,42 @@
+package com.ceng453.frontend.ui;
+
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+import java.util.List;
+
+// Lays out the opponent seats around the table with SeatLayout.
+// Child i is seat i + 1; seat 0 is the local player, whose hand has its own row at the bottom,
+// so the ring's lower edge is where the seats next to the local player end up.
+public class SeatRingPane extends Pane {
+
+    public SeatRingPane() {
+        // Only the seats themselves take clicks, not the empty middle of the table
+        setPickOnBounds(false);
+    }
+
+    @Override
+    protected void layoutChildren() {
+        List<Node> seats = getManagedChildren();
+        int seatCount = seats.size() + 1;
+        double width = getWidth();
+        double height = getHeight();
+
+        for (int i = 0; i < seats.size(); i++) {
+            Node seat = seats.get(i);
+            double seatWidth = seat.prefWidth(-1);
+            double seatHeight = seat.prefHeight(seatWidth);
+            Point2D center = SeatLayout.position(i + 1, seatCount, width / 2, height / 2, width / 2, height / 2);
+
+            // Keep the whole seat inside the ring's bounds
+            double x = clamp(center.getX() - seatWidth / 2, 0, width - seatWidth);
+            double y = clamp(center.getY() - seatHeight / 2, 0, height - seatHeight);
+            seat.resizeRelocate(snapPositionX(x), snapPositionY(y), seatWidth, seatHeight);
+        }
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(value, Math.max(min, max)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ceng453.frontend.ui;
+
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.StrokeType;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+// One opponent seat on the node board: name, turn/UNO indicator and the hand.
+// Built in code because the number of seats is only known when a game starts.
+public class SeatView extends VBox {
+    private final Label nameLabel = new Label();
+    private final Circle indicator = new Circle(8);
+    private final FlowPane handPane = new FlowPane(5, 5);
+
+    // handWidth is where the hand wraps to a new row
+    public SeatView(String name, double handWidth) {
+        super(5);
+        setAlignment(Pos.CENTER);
+
+        nameLabel.setText(name);
+        nameLabel.setFont(Font.font("System", FontWeight.BOLD, 16));
+        nameLabel.getStyleClass().add(StateStyles.SEAT_NAME);
+        indicator.getStyleClass().add(StateStyles.TURN_INDICATOR);
+        indicator.setStroke(Color.BLACK);
+        indicator.setStrokeType(StrokeType.INSIDE);
+        HBox header = new HBox(10, nameLabel, indicator);
+        header.setAlignment(Pos.CENTER);
+
+        handPane.setAlignment(Pos.CENTER);
+        handPane.setPrefWrapLength(handWidth);
+        getChildren().addAll(header, handPane);
+    }
+
+    public FlowPane getHandPane() {
+        return handPane;
+    }
+
+    public void setName(String name) {
+        nameLabel.setText(name);
+    }
+
+    public void setActive(boolean active) {
+        StateStyles.setActiveSeat(nameLabel, active);
+        StateStyles.setActiveSeat(indicator, active);
+    }
+
+    public void setUno(boolean uno) {
+        StateStyles.setUno(indicator, uno);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ceng453.frontend.ui;
+
+import com.ceng453.frontend.service.ApiService;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+// Gets everything the logged-in screens need ready while the user is still on the main menu:
+// the three leaderboards (paged in parallel into the ApiService cache), the game board and
+// leaderboard scenes, and every card image. Started on login and cancelled on logout.
+@Component
+public class SessionWarmUp {
+    private static final List<String> SCENES = List.of(SceneManager.GAME_BOARD_FXML, SceneManager.LEADERBOARD_FXML);
+
+    private final ApiService apiService;
+    private final SceneManager sceneManager;
+    private final CardImageCache imageCache;
+
+    private Disposable warmUp;
+
+    public SessionWarmUp(ApiService apiService, SceneManager sceneManager, CardImageCache imageCache) {
+        this.apiService = apiService;
+        this.sceneManager = sceneManager;
+        this.imageCache = imageCache;
+    }
+
+    public synchronized void start() {
+        stopWarmUp();
+        long startTime = System.nanoTime();
+
+        // Paged like the leaderboard screen reads them, so a screen opened meanwhile joins these
+        // requests page by page. A leaderboard that fails to load must not fail the others; its
+        // screen will retry.
+        Mono<Void> leaderboards = Flux.fromArray(ApiService.Leaderboard.values())
+                .flatMap(leaderboard -> apiService.getLeaderboardPages(leaderboard, false)
+                        .onErrorResume(error -> Flux.empty()))
+                .then();
+        Mono<Void> scenes = Mono.fromFuture(() -> sceneManager.preloadScenes(SCENES), false);
+        // Normally a no-op after the startup preload; after a re-tier or a failed preload it fills the gaps
+        Mono<Void> images = Mono.<Void>fromRunnable(() -> CardImageCache.allImagePaths().forEach(imageCache::get))
+                .subscribeOn(Schedulers.boundedElastic());
+
+        warmUp = Mono.when(leaderboards, scenes, images)
+                .subscribe(
+                        ignored -> { },
+                        error -> System.err.println("Session warm-up failed: " + error.getMessage()),
+                        () -> System.out.println("Session warm-up finished in "
+                                + (System.nanoTime() - startTime) / 1_000_000 + " ms"));
+    }
+
+    // Stops whatever is still running, including leaderboard reads other callers may share; the
+    // scenes already built are released by SceneManager.clearSceneCache()
+    public synchronized void cancel() {
+        stopWarmUp();
+        apiService.cancelSessionReads();
+    }
+
+    private void stopWarmUp() {
+        if (warmUp != null) {
+            warmUp.dispose();
+            warmUp = null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ceng453.frontend.ui;
+
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Short sound effects for game events. Every clip is decoded once by the AssetPreloader while the
+// application boots, so playing one never touches the disk. play() only sets a flag and wakes the
+// "sound-player" thread, which makes it safe and cheap to call from the FX thread on every render.
+//
+// Bursts are deduplicated: requests that arrive before the player thread wakes up are merged, and
+// the same sound is not restarted within MIN_REPEAT_NANOS, so a chain of CPU moves resolved in one
+// frame makes one sound per kind instead of a wall of noise.
+public class SoundEngine {
+    public static final String SOUNDS_PATH = "/sounds/";
+
+    public enum Sound {
+        PLAY("play.wav"),
+        DRAW("draw.wav"),
+        UNO("uno.wav"),
+        SKIP("skip.wav"),
+        REVERSE("reverse.wav");
+
+        private final String fileName;
+
+        Sound(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getPath() {
+            return SOUNDS_PATH + fileName;
+        }
+    }
+
+    // Roughly two frames; faster repeats are heard as one sound anyway
+    private static final long MIN_REPEAT_NANOS = 40_000_000L;
+    private static final double VOLUME = 0.6;
+
+    private final Map<Sound, AudioClip> clips = new EnumMap<>(Sound.class);
+    private final long[] lastPlayedAt = new long[Sound.values().length];
+    // One bit per Sound still waiting to be played
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean muted;
+    private Thread playerThread;
+
+    public SoundEngine() {
+        // Far enough in the past that the first play of every sound goes through
+        Arrays.fill(lastPlayedAt, System.nanoTime() - MIN_REPEAT_NANOS);
+    }
+
+    // Decodes one clip; called for every Sound by the AssetPreloader, on its worker threads
+    public void load(Sound sound) {
+        URL url = SoundEngine.class.getResource(sound.getPath());
+        if (url == null) {
+            System.err.println("Warning: sound not found: " + sound.getPath());
+            return;
+        }
+        try {
+            AudioClip clip = new AudioClip(url.toExternalForm());
+            clip.setVolume(VOLUME);
+            synchronized (clips) {
+                clips.put(sound, clip);
+            }
+        } catch (RuntimeException e) {
+            // No audio device or media support; the game works the same without sound
+            System.err.println("Error loading sound " + sound.getPath() + ": " + e.getMessage());
+        }
+    }
+
+    public int size() {
+        synchronized (clips) {
+            return clips.size();
+        }
+    }
+
+    public boolean isMuted() {
+        return muted;
+    }
+
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+    }
+
+    // Asks for the sound to be played as soon as possible; never blocks
+    public void play(Sound sound) {
+        if (muted) {
+            return;
+        }
+        int bit = 1 << sound.ordinal();
+        if ((pending.getAndUpdate(bits -> bits | bit) & bit) == 0) {
+            LockSupport.unpark(ensurePlayerThread());
+        }
+    }
+
+    private synchronized Thread ensurePlayerThread() {
+        if (playerThread == null) {
+            playerThread = new Thread(this::runPlayer, "sound-player");
+            playerThread.setDaemon(true);
+            playerThread.start();
+        }
+        return playerThread;
+    }
+
+    private void runPlayer() {
+        while (true) {
+            int bits = pending.getAndSet(0);
+            if (bits == 0) {
+                LockSupport.park(this);
+                continue;
+            }
+            long now = System.nanoTime();
+            for (Sound sound : Sound.values()) {
+                if ((bits & (1 << sound.ordinal())) == 0 || now - lastPlayedAt[sound.ordinal()] < MIN_REPEAT_NANOS) {
+                    continue;
+                }
+                AudioClip clip;
+                synchronized (clips) {
+                    clip = clips.get(sound);
+                }
+                if (clip != null) {
+                    lastPlayedAt[sound.ordinal()] = now;
+                    try {
+                        clip.play();
+                    } catch (RuntimeException e) {
+                        System.err.println("Error playing sound " + sound + ": " + e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
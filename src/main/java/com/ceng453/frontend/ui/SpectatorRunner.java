@@ -0,0 +1,190 @@
+package com.ceng453.frontend.ui;
+
+import com.ceng453.frontend.model.Game;
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Plays an all-CPU game on a background thread, independently of the frame rate.
+// The engine thread owns the live Game; the FX thread only ever sees snapshots of it. A snapshot is
+// taken at most once per pulse, and only the newest one is rendered, so the view costs the same
+// whether the engine plays one turn per second or thousands.
+public class SpectatorRunner {
+    // Real time: the same pace as the CPU players of a normal game at 1x
+    public static final double REAL_TIME_TURNS_PER_SECOND = 1.0;
+    public static final double UNBOUNDED = Double.POSITIVE_INFINITY;
+
+    // Longest single park, so speed changes and stop() are picked up promptly
+    private static final long MAX_PARK_NANOS = 10_000_000L;
+    private static final long RATE_WINDOW_NANOS = 500_000_000L;
+
+    private final Game game;
+    private final Consumer<Game> onFrame;
+
+    // Set by the FX pulse when it is ready for a new frame, cleared by the engine when it publishes one
+    private final AtomicBoolean frameWanted = new AtomicBoolean(true);
+    private final AtomicReference<Game> latestFrame = new AtomicReference<>();
+    private final AtomicLong turnsPlayed = new AtomicLong();
+
+    private volatile double turnsPerSecond = REAL_TIME_TURNS_PER_SECOND;
+    private volatile boolean retime;
+    private volatile boolean running;
+    private volatile boolean finished;
+    // While paused no snapshots are taken and the pulse is stopped; the engine keeps playing
+    private boolean framesPaused;
+    private Thread engineThread;
+
+    // Measured rate, updated by the pulse
+    private long rateWindowStart = -1;
+    private long rateWindowTurns;
+    private double measuredTurnsPerSecond;
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse(now);
+        }
+    };
+
+    // game must already be dealt; the runner plays it until someone wins or stop() is called
+    public SpectatorRunner(Game game, Consumer<Game> onFrame) {
+        this.game = game;
+        this.onFrame = onFrame;
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        game.setVerbose(false);
+        engineThread = new Thread(this::runEngine, "spectator-engine");
+        engineThread.setDaemon(true);
+        engineThread.start();
+        if (!framesPaused) {
+            pulse.start();
+        }
+    }
+
+    // Stops the engine and drops any frame that was not rendered yet
+    public void stop() {
+        running = false;
+        if (engineThread != null) {
+            LockSupport.unpark(engineThread);
+        }
+        pulse.stop();
+        latestFrame.set(null);
+    }
+
+    // Stops or resumes delivering frames, e.g. while the view is in a background tab.
+    // The first pulse after resuming asks the engine for a fresh snapshot.
+    public void setFramesPaused(boolean framesPaused) {
+        if (this.framesPaused == framesPaused) {
+            return;
+        }
+        this.framesPaused = framesPaused;
+        if (framesPaused) {
+            pulse.stop();
+        } else if (running) {
+            pulse.start();
+        }
+    }
+
+    public double getTurnsPerSecond() {
+        return turnsPerSecond;
+    }
+
+    // Target engine rate; UNBOUNDED plays turns back to back
+    public void setTurnsPerSecond(double turnsPerSecond) {
+        this.turnsPerSecond = Math.max(REAL_TIME_TURNS_PER_SECOND, turnsPerSecond);
+        retime = true;
+        if (engineThread != null) {
+            LockSupport.unpark(engineThread);
+        }
+    }
+
+    public long getTurnsPlayed() {
+        return turnsPlayed.get();
+    }
+
+    public double getMeasuredTurnsPerSecond() {
+        return measuredTurnsPerSecond;
+    }
+
+    private void runEngine() {
+        long lastTurnAt = System.nanoTime();
+        long nextTurnAt = lastTurnAt;
+        try {
+            while (running) {
+                double rate = turnsPerSecond;
+                boolean unbounded = Double.isInfinite(rate);
+                long period = unbounded ? 0 : (long) (1_000_000_000L / rate);
+                if (retime) {
+                    retime = false;
+                    nextTurnAt = lastTurnAt + period;
+                }
+
+                if (!unbounded) {
+                    long wait = nextTurnAt - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(Math.min(wait, MAX_PARK_NANOS));
+                        continue;
+                    }
+                }
+
+                game.playCpuTurn();
+                turnsPlayed.incrementAndGet();
+                lastTurnAt = System.nanoTime();
+                // Don't try to catch up on turns missed while the thread was descheduled
+                nextTurnAt = Math.max(nextTurnAt + period, lastTurnAt);
+
+                boolean over = game.isGameOver();
+                if (over || frameWanted.compareAndSet(true, false)) {
+                    latestFrame.set(game.snapshot());
+                }
+                if (over) {
+                    finished = true;
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Spectator engine stopped: " + e.getMessage());
+            e.printStackTrace();
+            finished = true;
+        }
+    }
+
+    private void onPulse(long now) {
+        Game frame = latestFrame.getAndSet(null);
+        updateMeasuredRate(now);
+        if (frame != null) {
+            onFrame.accept(frame);
+        }
+        frameWanted.set(true);
+
+        // The final frame has been shown once the engine is done and nothing is pending
+        if (finished && latestFrame.get() == null) {
+            pulse.stop();
+            running = false;
+        }
+    }
+
+    private void updateMeasuredRate(long now) {
+        long turns = turnsPlayed.get();
+        if (rateWindowStart < 0) {
+            rateWindowStart = now;
+            rateWindowTurns = turns;
+            return;
+        }
+        long elapsed = now - rateWindowStart;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            measuredTurnsPerSecond = (turns - rateWindowTurns) * 1_000_000_000.0 / elapsed;
+            rateWindowStart = now;
+            rateWindowTurns = turns;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ceng453.frontend.ui;
+
+import com.ceng453.frontend.model.Card;
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// State styling for the board on top of the style classes and pseudo-classes in styles.css.
+// Switching a pseudo-class only flips a bit on the node, so unlike setStyle() nothing is built
+// or parsed per turn; the matching rules were resolved once when the stylesheet was loaded.
+public final class StateStyles {
+    // Style classes, set once from FXML or when a node is created
+    public static final String SEAT_NAME = "seat-name";
+    public static final String TURN_INDICATOR = "turn-indicator";
+    public static final String COLOR_LABEL = "color-label";
+    public static final String HAND_CARD = "hand-card";
+
+    private static final PseudoClass ACTIVE_SEAT = PseudoClass.getPseudoClass("active-seat");
+    private static final PseudoClass UNO = PseudoClass.getPseudoClass("uno");
+    private static final PseudoClass PLAYABLE = PseudoClass.getPseudoClass("playable");
+    private static final PseudoClass UNPLAYABLE = PseudoClass.getPseudoClass("unplayable");
+    private static final Map<Card.Color, PseudoClass> CARD_COLORS = new EnumMap<>(Card.Color.class);
+
+    static {
+        for (Card.Color color : Card.Color.values()) {
+            // Card.Color.toString() is the lower-case name, e.g. :red or :wild
+            CARD_COLORS.put(color, PseudoClass.getPseudoClass(color.toString()));
+        }
+    }
+
+    private StateStyles() {
+    }
+
+    // The seat whose turn it is
+    public static void setActiveSeat(Node node, boolean active) {
+        node.pseudoClassStateChanged(ACTIVE_SEAT, active);
+    }
+
+    // The seat is down to one card
+    public static void setUno(Node node, boolean uno) {
+        node.pseudoClassStateChanged(UNO, uno);
+    }
+
+    // Exactly one of the color pseudo-classes is on at a time
+    public static void setCardColor(Node node, Card.Color color) {
+        for (Map.Entry<Card.Color, PseudoClass> entry : CARD_COLORS.entrySet()) {
+            node.pseudoClassStateChanged(entry.getValue(), entry.getKey() == color);
+        }
+    }
+
+    // A card in the human hand; null when it isn't the human's turn and no card should stand out
+    public static void setPlayable(Node node, Boolean playable) {
+        node.pseudoClassStateChanged(PLAYABLE, playable != null && playable);
+        node.pseudoClassStateChanged(UNPLAYABLE, playable != null && !playable);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ceng453.frontend.ui;
+
+import javafx.animation.AnimationTimer;
+
+// Drives consecutive CPU turns from a single AnimationTimer instead of one PauseTransition per turn.
+// The timer only runs while a CPU turn is pending, so an idle board costs nothing per frame.
+//
+// At speed 1x a CPU turn plays one second after it becomes due; the speed scales that delay.
+// In instant mode every pending CPU turn is resolved in one batch and only the final state is rendered.
+public class TurnScheduler {
+    public static final double MIN_SPEED = 0.25;
+    public static final double MAX_SPEED = 10.0;
+
+    private static final long BASE_TURN_DELAY_NANOS = 1_000_000_000L;
+    // Instant mode stops batching after this long so a very long CPU chain can't freeze a frame
+    private static final long INSTANT_FRAME_BUDGET_NANOS = 8_000_000L;
+
+    // What the scheduler drives; implemented by the game board
+    public interface TurnDriver {
+        // True while the player to move is a CPU and the game can continue
+        boolean hasPendingTurn();
+
+        // Plays exactly one CPU turn on the model, without touching the view
+        void playTurn();
+
+        // Brings the view up to date with the model
+        void render();
+    }
+
+    private final TurnDriver driver;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            tick(now);
+        }
+    };
+
+    private double speed = 1.0;
+    private boolean instant;
+    private boolean running;
+    // Pulse time at which the next CPU turn plays, or -1 if not yet known
+    private long nextTurnAt = -1;
+
+    public TurnScheduler(TurnDriver driver) {
+        this.driver = driver;
+    }
+
+    // Schedules the pending CPU turn(s); does nothing if they are already scheduled
+    public void requestTurn() {
+        if (running || !driver.hasPendingTurn()) {
+            return;
+        }
+        running = true;
+        nextTurnAt = -1;
+        timer.start();
+    }
+
+    // Drops any scheduled turn, e.g. when the game is left or restarted
+    public void cancel() {
+        timer.stop();
+        running = false;
+        nextTurnAt = -1;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void setSpeed(double speed) {
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed));
+        // Re-time the turn that is currently waiting
+        nextTurnAt = -1;
+    }
+
+    public boolean isInstant() {
+        return instant;
+    }
+
+    public void setInstant(boolean instant) {
+        this.instant = instant;
+        nextTurnAt = -1;
+    }
+
+    private void tick(long now) {
+        if (!driver.hasPendingTurn()) {
+            cancel();
+            return;
+        }
+
+        if (instant) {
+            // Resolve as many CPU turns as fit in the frame budget, then render once
+            long deadline = System.nanoTime() + INSTANT_FRAME_BUDGET_NANOS;
+            do {
+                driver.playTurn();
+            } while (driver.hasPendingTurn() && System.nanoTime() < deadline);
+            driver.render();
+            if (!driver.hasPendingTurn()) {
+                cancel();
+            }
+            return;
+        }
+
+        if (nextTurnAt < 0) {
+            nextTurnAt = now + (long) (BASE_TURN_DELAY_NANOS / speed);
+            return;
+        }
+        if (now >= nextTurnAt) {
+            driver.playTurn();
+            driver.render();
+            if (driver.hasPendingTurn()) {
+                nextTurnAt = now + (long) (BASE_TURN_DELAY_NANOS / speed);
+            } else {
+                cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ceng453.frontend.ui;
+
+import javafx.application.Preloader;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+import javafx.stage.StageStyle;
+
+// Splash stage shown while UnoApplication.init() boots Spring and warms the assets
+public class UnoPreloader extends Preloader {
+    private Stage splashStage;
+    private ProgressBar progressBar;
+    private Label statusLabel;
+
+    @Override
+    public void start(Stage stage) {
+        splashStage = stage;
+
+        Label titleLabel = new Label("UNO");
+        titleLabel.setTextFill(Color.web("#E40101"));
+        titleLabel.setFont(Font.font("System", FontWeight.BOLD, 48));
+
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(300);
+
+        statusLabel = new Label("Loading...");
+        statusLabel.setTextFill(Color.WHITE);
+
+        VBox root = new VBox(20, titleLabel, progressBar, statusLabel);
+        root.setAlignment(Pos.CENTER);
+        root.setStyle("-fx-background-color: #1E1E1E;");
+
+        stage.initStyle(StageStyle.UNDECORATED);
+        stage.setScene(new Scene(root, 400, 250));
+        stage.centerOnScreen();
+        stage.show();
+    }
+
+    @Override
+    public void handleApplicationNotification(PreloaderNotification notification) {
+        if (notification instanceof ProgressNotification progressNotification) {
+            double progress = progressNotification.getProgress();
+            progressBar.setProgress(progress);
+            statusLabel.setText("Loading assets... " + Math.round(progress * 100) + "%");
+        }
+    }
+
+    @Override
+    public void handleStateChangeNotification(StateChangeNotification notification) {
+        // Hide the splash right before the application shows its own stage
+        if (notification.getType() == StateChangeNotification.Type.BEFORE_START) {
+            splashStage.hide();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ceng453.frontend.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoveLogTest {
+
+    @Test
+    void roundTripsEveryKindOfMove() {
+        MoveLog log = new MoveLog();
+        log.start(4, new Card(Card.Color.GREEN, 7));
+        log.play(3, new Card(Card.Color.WILD, Card.Type.WILD_DRAW_FOUR));
+        log.chooseColor(Card.Color.BLUE);
+        log.draw(0, 4);
+        log.play(31, new Card(Card.Color.RED, Card.Type.SKIP));
+        // Needs a three-byte varint
+        log.draw(1, 20_000);
+        // Nothing drawn, nothing logged
+        log.draw(2, 0);
+
+        List<MoveLog.Move> moves = MoveLog.decode(log.toCompressedBytes());
+
+        assertEquals(List.of(
+                new MoveLog.Move(MoveLog.Kind.START, 4, MoveLog.cardId(new Card(Card.Color.GREEN, 7))),
+                new MoveLog.Move(MoveLog.Kind.PLAY, 3, MoveLog.cardId(new Card(Card.Color.WILD, Card.Type.WILD_DRAW_FOUR))),
+                new MoveLog.Move(MoveLog.Kind.COLOR, 0, Card.Color.BLUE.ordinal()),
+                new MoveLog.Move(MoveLog.Kind.DRAW, 0, 4),
+                new MoveLog.Move(MoveLog.Kind.PLAY, 31, MoveLog.cardId(new Card(Card.Color.RED, Card.Type.SKIP))),
+                new MoveLog.Move(MoveLog.Kind.DRAW, 1, 20_000)), moves);
+    }
+
+    @Test
+    void cardIdsRoundTripForEveryCardInTheDeck() {
+        for (Card card : new Deck().getCards()) {
+            Card decoded = MoveLog.cardOf(MoveLog.cardId(card));
+            assertEquals(card.getColor(), decoded.getColor());
+            assertEquals(card.getType(), decoded.getType());
+            assertEquals(card.getNumber(), decoded.getNumber());
+            assertTrue(MoveLog.cardId(card) < 128, "fits one varint byte: " + card);
+        }
+    }
+
+    @Test
+    void aWholeGameIsAFewHundredBytesAtMost() {
+        Game game = new Game();
+        game.setVerbose(false);
+        game.initializeSpectatorGame(4);
+        for (int turn = 0; turn < 2000 && !game.isGameOver(); turn++) {
+            game.playCpuTurn();
+        }
+
+        byte[] compressed = game.getMoveLog().toCompressedBytes();
+
+        assertTrue(compressed.length < 500, "compressed to " + compressed.length + " bytes");
+        List<MoveLog.Move> moves = MoveLog.decode(compressed);
+        assertEquals(MoveLog.Kind.START, moves.get(0).kind());
+        assertEquals(4, moves.get(0).seat());
+    }
+
+    @Test
+    void rejectsUnknownVersionsAndTruncatedLogs() {
+        MoveLog log = new MoveLog();
+        log.start(2, new Card(Card.Color.RED, 0));
+        byte[] compressed = log.toCompressedBytes();
+
+        byte[] otherVersion = compressed.clone();
+        otherVersion[0] = MoveLog.FORMAT_VERSION + 1;
+        assertThrows(IllegalArgumentException.class, () -> MoveLog.decode(otherVersion));
+
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - 1);
+        assertThrows(IllegalArgumentException.class, () -> MoveLog.decode(truncated));
+    }
+}
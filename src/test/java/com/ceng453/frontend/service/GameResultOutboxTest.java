@@ -0,0 +1,103 @@
+package com.ceng453.frontend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GameResultOutboxTest {
+    @TempDir
+    Path directory;
+
+    private ApiService apiService;
+    private final List<GameResultOutbox> outboxes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // The backend stays unreachable, so every replayed result stays pending
+        apiService = mock(ApiService.class);
+        when(apiService.recordGameResult(any())).thenReturn(Mono.error(new IllegalStateException("offline")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxes.forEach(GameResultOutbox::shutdown);
+    }
+
+    @Test
+    void replaySkipsATornLastLine() throws IOException {
+        writeLog(result("a") + "\n" + result("b") + "\n" + result("c").substring(0, 40));
+
+        GameResultOutbox outbox = start();
+
+        assertEquals(2, outbox.getPendingCount());
+        assertEquals(List.of("a", "b"), keysInLog());
+    }
+
+    @Test
+    void replayDropsAcknowledgedResults() throws IOException {
+        writeLog(result("a") + "\n" + result("b") + "\n" + ack("a") + "\n"
+                + result("c") + "\n" + ack("c") + "\n");
+
+        GameResultOutbox outbox = start();
+
+        assertEquals(1, outbox.getPendingCount());
+        assertEquals(List.of("b"), keysInLog());
+    }
+
+    @Test
+    void secondClientLeavesTheLogAlone() throws IOException {
+        writeLog(result("a") + "\n");
+        GameResultOutbox owner = start();
+
+        GameResultOutbox other = start();
+
+        assertEquals(1, owner.getPendingCount());
+        assertEquals(0, other.getPendingCount());
+        assertEquals(List.of("a"), keysInLog());
+    }
+
+    private GameResultOutbox start() {
+        GameResultOutbox outbox = new GameResultOutbox(apiService, directory.toString());
+        outboxes.add(outbox);
+        outbox.start();
+        return outbox;
+    }
+
+    private void writeLog(String content) throws IOException {
+        Files.writeString(directory.resolve("game-results.log"), content, StandardCharsets.UTF_8);
+    }
+
+    // Keys of the results in the log, which start() rewrites with only the pending ones
+    private List<String> keysInLog() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> keys = new ArrayList<>();
+        for (String line : Files.readAllLines(directory.resolve("game-results.log"), StandardCharsets.UTF_8)) {
+            keys.add(objectMapper.readTree(line).path("result").path("idempotencyKey").asText());
+        }
+        return keys;
+    }
+
+    private static String result(String key) {
+        return "{\"type\":\"result\",\"result\":{\"idempotencyKey\":\"" + key
+                + "\",\"winnerId\":1,\"playerIds\":[1],\"finishedAtMillis\":1700000000000},\"key\":null}";
+    }
+
+    private static String ack(String key) {
+        return "{\"type\":\"ack\",\"result\":null,\"key\":\"" + key + "\"}";
+    }
+}